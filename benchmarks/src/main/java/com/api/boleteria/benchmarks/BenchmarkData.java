@@ -0,0 +1,181 @@
+package com.api.boleteria.benchmarks;
+
+import com.api.boleteria.dto.request.CardRequestDTO;
+import com.api.boleteria.dto.request.FunctionRequestDTO;
+import com.api.boleteria.dto.request.RegisterRequestDTO;
+import com.api.boleteria.model.*;
+import com.api.boleteria.model.enums.CardType;
+import com.api.boleteria.model.enums.Role;
+import com.api.boleteria.model.enums.ScreenType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generador de datos de prueba realistas y reproducibles (semilla fija) para los benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final String[] NAMES = {"María", "José", "Lucía", "Juan Pablo", "Sofía", "Martín", "Valentina", "Agustín"};
+    private static final String[] SURNAMES = {"González", "Rodríguez", "Fernández", "López", "Martínez", "Pérez", "García Díaz"};
+    private static final String[] GENRES = {"Acción", "Drama", "Comedia", "Terror", "Animación", "Ciencia ficción"};
+    private static final String[] CLASSIFICATIONS = {"ATP", "+13", "+16", "+18"};
+    private static final DateTimeFormatter CARD_DATE = DateTimeFormatter.ofPattern("MM/yy");
+
+    private BenchmarkData() {
+    }
+
+    static Random random() {
+        return new Random(42);
+    }
+
+    static RegisterRequestDTO register(Random random, int i) {
+        String name = NAMES[random.nextInt(NAMES.length)];
+        String surname = SURNAMES[random.nextInt(SURNAMES.length)];
+        String username = "usuario" + i;
+        return new RegisterRequestDTO(name, surname, username,
+                username + "@correo" + random.nextInt(10) + ".com.ar", "Clave" + random.nextInt(1000) + "!x");
+    }
+
+    static CardRequestDTO card(Random random) {
+        YearMonth issue = YearMonth.now().minusMonths(1 + random.nextInt(36));
+        CardRequestDTO card = new CardRequestDTO();
+        card.setCardNumber(luhnNumber(random));
+        card.setCardholderName(NAMES[random.nextInt(NAMES.length)] + " " + SURNAMES[random.nextInt(SURNAMES.length)]);
+        card.setIssueDate(issue.format(CARD_DATE));
+        card.setExpirationDate(issue.plusYears(4).format(CARD_DATE));
+        card.setCvv(String.format("%03d", random.nextInt(1000)));
+        card.setCardType(CardType.values()[random.nextInt(CardType.values().length)]);
+        return card;
+    }
+
+    /**
+     * Genera un número de tarjeta de 16 dígitos con dígito verificador de Luhn válido.
+     */
+    static String luhnNumber(Random random) {
+        int[] digits = new int[16];
+        digits[0] = 4;
+        for (int i = 1; i < 15; i++) {
+            digits[i] = random.nextInt(10);
+        }
+        int sum = 0;
+        for (int i = 14; i >= 0; i--) {
+            int d = digits[i];
+            if ((14 - i) % 2 == 0) {
+                d *= 2;
+                if (d > 9) {
+                    d -= 9;
+                }
+            }
+            sum += d;
+        }
+        digits[15] = (10 - sum % 10) % 10;
+        StringBuilder number = new StringBuilder(16);
+        for (int d : digits) {
+            number.append(d);
+        }
+        return number.toString();
+    }
+
+    static Movie movie(Random random, long id) {
+        Movie movie = new Movie();
+        movie.setId(id);
+        movie.setTitle("Película " + id);
+        movie.setDuration(80 + random.nextInt(100));
+        movie.setMovieGenre(GENRES[random.nextInt(GENRES.length)]);
+        movie.setDirector(NAMES[random.nextInt(NAMES.length)] + " " + SURNAMES[random.nextInt(SURNAMES.length)]);
+        movie.setClassification(CLASSIFICATIONS[random.nextInt(CLASSIFICATIONS.length)]);
+        movie.setSynopsis("Sinopsis de la película " + id + ", con una trama de longitud habitual para un catálogo de cine.");
+        return movie;
+    }
+
+    static Cinema cinema(Random random, long id) {
+        Cinema cinema = new Cinema();
+        cinema.setId(id);
+        cinema.setName("Sala " + id);
+        cinema.setScreenType(ScreenType.values()[random.nextInt(ScreenType.values().length)]);
+        cinema.setAtmos(random.nextBoolean());
+        cinema.setSeatCapacity(80 + random.nextInt(220));
+        cinema.setEnabled(true);
+        return cinema;
+    }
+
+    /**
+     * Genera la grilla de funciones de una sala: funciones consecutivas sin solapamiento,
+     * con 30 minutos de limpieza entre una y otra.
+     */
+    static List<Function> schedule(Random random, Cinema cinema, List<Movie> movies, LocalDateTime start, int count) {
+        List<Function> functions = new ArrayList<>(count);
+        LocalDateTime showtime = start;
+        for (int i = 0; i < count; i++) {
+            Movie movie = movies.get(random.nextInt(movies.size()));
+            Function function = new Function();
+            function.setId((long) i + 1);
+            function.setShowtime(showtime);
+            function.setCinema(cinema);
+            function.setMovie(movie);
+            function.setAvailableCapacity(random.nextInt(cinema.getSeatCapacity() + 1));
+            functions.add(function);
+            showtime = showtime.plusMinutes(movie.getDuration() + 30);
+        }
+        return functions;
+    }
+
+    static FunctionRequestDTO functionRequest(Cinema cinema, Movie movie, LocalDateTime showtime) {
+        FunctionRequestDTO dto = new FunctionRequestDTO();
+        dto.setCinemaId(cinema.getId());
+        dto.setMovieId(movie.getId());
+        dto.setShowtime(showtime);
+        return dto;
+    }
+
+    static User user(Random random, long id) {
+        User user = new User(NAMES[random.nextInt(NAMES.length)], SURNAMES[random.nextInt(SURNAMES.length)],
+                "usuario" + id, "usuario" + id + "@correo.com.ar", "$2a$10$hash");
+        user.setId(id);
+        user.setRole(id % 50 == 0 ? Role.ADMIN : Role.CLIENT);
+        return user;
+    }
+
+    static Ticket ticket(long id, User user, Function function) {
+        return new Ticket(id, 2500.0, function.getShowtime().minusDays(1).withSecond(17), user, function);
+    }
+
+    static Card cardEntity(Random random, long id, User user) {
+        return Card.builder()
+                .id(id)
+                .cardNumber(luhnNumber(random))
+                .cardholderName(user.getName() + " " + user.getSurname())
+                .expirationDate("12/29")
+                .issueDate("01/24")
+                .cvv("123")
+                .cardType(CardType.CREDIT)
+                .balance(10_000.0 + random.nextInt(50_000))
+                .user(user)
+                .build();
+    }
+
+    /**
+     * Obtiene un método de mapeo privado de un servicio, ligado a una instancia creada sin dependencias.
+     * Los métodos map*DTO no usan los colaboradores del servicio, por lo que alcanza con pasarles null.
+     */
+    static MethodHandle mapper(Class<?> service, String name, Class<?> returnType, Class<?> parameterType) {
+        try {
+            Constructor<?> constructor = service.getDeclaredConstructors()[0];
+            Object instance = constructor.newInstance(new Object[constructor.getParameterCount()]);
+            return MethodHandles.privateLookupIn(service, MethodHandles.lookup())
+                    .findVirtual(service, name, MethodType.methodType(returnType, parameterType))
+                    .bindTo(instance);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No se pudo acceder a " + service.getSimpleName() + "." + name, e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.api.boleteria.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Punto de entrada de los benchmarks.
+ *
+ * Acepta las mismas opciones que la línea de comandos de JMH y agrega siempre el perfilador de GC
+ * (asignación por operación) y la salida JSON en results/&lt;etiqueta&gt;.json. La etiqueta se toma de
+ * -Dbench.label (por ejemplo el hash del commit) o, si no se indica, de la fecha y hora actual.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        String label = System.getProperty("bench.label",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Path results = Path.of(System.getProperty("bench.results", "results"));
+        Files.createDirectories(results);
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.resolve(label + ".json").toString())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,107 @@
+package com.api.boleteria.benchmarks;
+
+import com.api.boleteria.event.TicketsPurchasedEvent;
+import com.api.boleteria.readmodel.CoPurchaseMatrix;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de actualizar y consultar la matriz de co-compras con un millón de usuarios.
+ *
+ * La popularidad de las películas sigue una distribución de tipo Zipf y cada usuario compra entre una y seis.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CoPurchaseBenchmark {
+
+    private static final int OPERATIONS = 1 << 16;
+
+    @Param({"1000000"})
+    private int users;
+
+    @Param({"300"})
+    private int movies;
+
+    private CoPurchaseMatrix matrix;
+    private TicketsPurchasedEvent[] purchases;
+    private long[] queriedMovies;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        double[] cumulative = zipf(movies);
+        matrix = new CoPurchaseMatrix(null);
+
+        for (long user = 1; user <= users; user++) {
+            int bought = 1 + random.nextInt(6);
+            for (int i = 0; i < bought; i++) {
+                matrix.on(purchase(user, pick(random, cumulative)));
+            }
+        }
+
+        purchases = new TicketsPurchasedEvent[OPERATIONS];
+        queriedMovies = new long[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            purchases[i] = purchase(1 + random.nextInt(users), pick(random, cumulative));
+            queriedMovies[i] = pick(random, cumulative);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (OPERATIONS - 1);
+        return next;
+    }
+
+    @Benchmark
+    public CoPurchaseMatrix update() {
+        matrix.on(purchases[nextIndex()]);
+        return matrix;
+    }
+
+    @Benchmark
+    public List<CoPurchaseMatrix.Recommendation> alsoBought() {
+        return matrix.alsoBought(queriedMovies[nextIndex()], 5);
+    }
+
+    private static TicketsPurchasedEvent purchase(long userId, long movieId) {
+        return new TicketsPurchasedEvent(userId, 1L, movieId, 1L, 1, 2500.0, 100,
+                LocalDateTime.now(), LocalDateTime.now(), 200, List.of(0L));
+    }
+
+    private static double[] zipf(int size) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private static long pick(Random random, double[] cumulative) {
+        double value = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low + 1;
+    }
+}
@@ -0,0 +1,125 @@
+package com.api.boleteria.benchmarks;
+
+import com.api.boleteria.dto.detail.CardDetailDTO;
+import com.api.boleteria.dto.detail.CinemaDetailDTO;
+import com.api.boleteria.dto.detail.FunctionDetailDTO;
+import com.api.boleteria.dto.detail.TicketDetailDTO;
+import com.api.boleteria.dto.detail.UserDetailDTO;
+import com.api.boleteria.dto.list.FunctionListDTO;
+import com.api.boleteria.dto.list.MovieListDTO;
+import com.api.boleteria.model.*;
+import com.api.boleteria.service.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de los métodos privados map*DTO de los servicios, que se ejecutan por cada elemento de cada respuesta.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+    private static final int DATA_SET = 1024;
+
+    private static final MethodHandle TICKET_DETAIL =
+            BenchmarkData.mapper(TicketService.class, "mapToDetailDTO", TicketDetailDTO.class, Ticket.class);
+    private static final MethodHandle FUNCTION_DETAIL =
+            BenchmarkData.mapper(FunctionService.class, "mapToDetailDTO", FunctionDetailDTO.class, Function.class);
+    private static final MethodHandle FUNCTION_LIST =
+            BenchmarkData.mapper(FunctionService.class, "mapToListDTO", FunctionListDTO.class, Function.class);
+    private static final MethodHandle MOVIE_LIST =
+            BenchmarkData.mapper(MovieService.class, "mapToListDTO", MovieListDTO.class, Movie.class);
+    private static final MethodHandle CINEMA_DETAIL =
+            BenchmarkData.mapper(CinemaService.class, "mapToDetailDTO", CinemaDetailDTO.class, Cinema.class);
+    private static final MethodHandle USER_DETAIL =
+            BenchmarkData.mapper(UserService.class, "mapToDetailDTO", UserDetailDTO.class, User.class);
+    private static final MethodHandle CARD_DETAIL =
+            BenchmarkData.mapper(CardService.class, "mapToDetailDTO", CardDetailDTO.class, Card.class);
+
+    private Ticket[] tickets;
+    private Function[] functions;
+    private Movie[] movies;
+    private Cinema[] cinemas;
+    private User[] users;
+    private Card[] cards;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        List<Movie> movieList = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            movieList.add(BenchmarkData.movie(random, id));
+        }
+        List<Function> functionList = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            Cinema cinema = BenchmarkData.cinema(random, id);
+            functionList.addAll(BenchmarkData.schedule(random, cinema, movieList, LocalDateTime.of(2030, 1, 1, 10, 0), 60));
+        }
+
+        tickets = new Ticket[DATA_SET];
+        functions = new Function[DATA_SET];
+        movies = new Movie[DATA_SET];
+        cinemas = new Cinema[DATA_SET];
+        users = new User[DATA_SET];
+        cards = new Card[DATA_SET];
+        for (int i = 0; i < DATA_SET; i++) {
+            users[i] = BenchmarkData.user(random, i + 1);
+            cards[i] = BenchmarkData.cardEntity(random, i + 1, users[i]);
+            functions[i] = functionList.get(random.nextInt(functionList.size()));
+            movies[i] = functions[i].getMovie();
+            cinemas[i] = functions[i].getCinema();
+            tickets[i] = BenchmarkData.ticket(i + 1, users[i], functions[i]);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (DATA_SET - 1);
+        return next;
+    }
+
+    @Benchmark
+    public TicketDetailDTO ticketDetail() throws Throwable {
+        return (TicketDetailDTO) TICKET_DETAIL.invokeExact(tickets[nextIndex()]);
+    }
+
+    @Benchmark
+    public FunctionDetailDTO functionDetail() throws Throwable {
+        return (FunctionDetailDTO) FUNCTION_DETAIL.invokeExact(functions[nextIndex()]);
+    }
+
+    @Benchmark
+    public FunctionListDTO functionList() throws Throwable {
+        return (FunctionListDTO) FUNCTION_LIST.invokeExact(functions[nextIndex()]);
+    }
+
+    @Benchmark
+    public MovieListDTO movieList() throws Throwable {
+        return (MovieListDTO) MOVIE_LIST.invokeExact(movies[nextIndex()]);
+    }
+
+    @Benchmark
+    public CinemaDetailDTO cinemaDetail() throws Throwable {
+        return (CinemaDetailDTO) CINEMA_DETAIL.invokeExact(cinemas[nextIndex()]);
+    }
+
+    @Benchmark
+    public UserDetailDTO userDetail() throws Throwable {
+        return (UserDetailDTO) USER_DETAIL.invokeExact(users[nextIndex()]);
+    }
+
+    @Benchmark
+    public CardDetailDTO cardDetail() throws Throwable {
+        return (CardDetailDTO) CARD_DETAIL.invokeExact(cards[nextIndex()]);
+    }
+}
@@ -0,0 +1,70 @@
+package com.api.boleteria.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compara dos archivos de resultados JSON de JMH (por ejemplo, de dos commits distintos).
+ *
+ * Imprime, por benchmark y parámetros, el puntaje y los bytes asignados por operación de cada
+ * corrida junto con la variación porcentual. Uso: ResultComparison base.json nuevo.json
+ */
+public class ResultComparison {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Uso: ResultComparison <base.json> <nuevo.json>");
+            System.exit(2);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> base = index(mapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = index(mapper.readTree(new File(args[1])));
+
+        System.out.printf("%-70s %14s %14s %9s %12s %12s %9s%n",
+                "benchmark", "base", "nuevo", "var%", "B/op base", "B/op nuevo", "var%");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = base.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            double scoreBefore = before == null ? Double.NaN : score(before);
+            double scoreAfter = score(after);
+            double allocBefore = before == null ? Double.NaN : allocation(before);
+            double allocAfter = allocation(after);
+            System.out.printf("%-70s %14.3f %14.3f %8.1f%% %12.1f %12.1f %8.1f%%  %s%n",
+                    entry.getKey(), scoreBefore, scoreAfter, change(scoreBefore, scoreAfter),
+                    allocBefore, allocAfter, change(allocBefore, allocAfter),
+                    after.path("primaryMetric").path("scoreUnit").asText());
+        }
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replace("com.api.boleteria.benchmarks.", ""));
+            for (Map.Entry<String, JsonNode> param : result.path("params").properties()) {
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            byKey.put(key.toString(), result);
+        }
+        return byKey;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble(Double.NaN);
+    }
+
+    private static double allocation(JsonNode result) {
+        return result.path("secondaryMetrics").path(ALLOCATION).path("score").asDouble(Double.NaN);
+    }
+
+    private static double change(double before, double after) {
+        return (after - before) / before * 100;
+    }
+}
@@ -0,0 +1,116 @@
+package com.api.boleteria.benchmarks;
+
+import com.api.boleteria.dto.request.CardRequestDTO;
+import com.api.boleteria.dto.request.FunctionRequestDTO;
+import com.api.boleteria.dto.request.RegisterRequestDTO;
+import com.api.boleteria.model.Cinema;
+import com.api.boleteria.model.Function;
+import com.api.boleteria.model.Movie;
+import com.api.boleteria.validators.CardValidator;
+import com.api.boleteria.validators.FunctionValidator;
+import com.api.boleteria.validators.UserValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de las validaciones que se ejecutan en cada alta de usuario, tarjeta y función.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidatorBenchmark {
+
+    private static final int DATA_SET = 1024;
+
+    private final CardValidator cardValidator = new CardValidator();
+
+    private RegisterRequestDTO[] registrations;
+    private CardRequestDTO[] cards;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        registrations = new RegisterRequestDTO[DATA_SET];
+        cards = new CardRequestDTO[DATA_SET];
+        for (int i = 0; i < DATA_SET; i++) {
+            registrations[i] = BenchmarkData.register(random, i);
+            cards[i] = BenchmarkData.card(random);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (DATA_SET - 1);
+        return next;
+    }
+
+    @Benchmark
+    public RegisterRequestDTO userFields() {
+        RegisterRequestDTO dto = registrations[nextIndex()];
+        UserValidator.validateFields(dto);
+        return dto;
+    }
+
+    @Benchmark
+    public CardRequestDTO card() {
+        CardRequestDTO dto = cards[nextIndex()];
+        cardValidator.validateCard(dto);
+        return dto;
+    }
+
+    @Benchmark
+    public boolean luhn() {
+        return cardValidator.isValidLuhn(cards[nextIndex()].getCardNumber());
+    }
+
+    @Benchmark
+    public FunctionRequestDTO functionSchedule(Schedule schedule) {
+        int i = nextIndex();
+        FunctionValidator.validateSchedule(schedule.newFunctions[i], schedule.newFunctionMovies[i], schedule.functions);
+        return schedule.newFunctions[i];
+    }
+
+    /**
+     * Grilla de una sala y funciones nuevas a validar contra ella.
+     */
+    @State(Scope.Thread)
+    public static class Schedule {
+
+        /** Cantidad de funciones ya programadas en la sala contra las que se verifica el solapamiento. */
+        @Param({"10", "100", "1000"})
+        private int functionsInCinema;
+
+        private FunctionRequestDTO[] newFunctions;
+        private Movie[] newFunctionMovies;
+        private List<Function> functions;
+
+        @Setup
+        public void setUp() {
+            Random random = BenchmarkData.random();
+            List<Movie> movies = new ArrayList<>();
+            for (long id = 1; id <= 50; id++) {
+                movies.add(BenchmarkData.movie(random, id));
+            }
+            Cinema cinema = BenchmarkData.cinema(random, 1);
+            functions = BenchmarkData.schedule(random, cinema, movies, LocalDateTime.of(2030, 1, 1, 10, 0), functionsInCinema);
+
+            // Las nuevas funciones caen después de la grilla, así que se recorre la lista completa sin solapamientos.
+            Function last = functions.get(functions.size() - 1);
+            LocalDateTime free = last.getShowtime().plusMinutes(last.getMovie().getDuration() + 30);
+            newFunctions = new FunctionRequestDTO[DATA_SET];
+            newFunctionMovies = new Movie[DATA_SET];
+            for (int i = 0; i < DATA_SET; i++) {
+                newFunctionMovies[i] = movies.get(random.nextInt(movies.size()));
+                newFunctions[i] = BenchmarkData.functionRequest(cinema, newFunctionMovies[i], free.plusMinutes(random.nextInt(600)));
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.api.boleteria.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifica al terminar la carga que los datos sigan siendo consistentes.
+ *
+ * - Ninguna función vendió más entradas que la capacidad de su sala (sobreventa).
+ * - La capacidad disponible de cada función coincide con la capacidad de la sala menos los tickets vendidos.
+ * - Los tickets guardados coinciden con las compras que la API confirmó.
+ * - El acumulado de ventas por función (function_sales) coincide con los tickets.
+ * - Ninguna tarjeta quedó con saldo negativo y el dinero descontado coincide con lo vendido.
+ */
+final class ConsistencyCheck {
+
+    private static final String FUNCTIONS_QUERY = """
+            SELECT f.id, f.available_capacity, c.seat_capacity, COUNT(t.id), COALESCE(MAX(s.tickets_sold), 0)
+            FROM functions f
+            JOIN cinemas c ON c.id = f.cinema_id
+            LEFT JOIN tickets t ON t.function_id = f.id
+            LEFT JOIN function_sales s ON s.function_id = f.id
+            GROUP BY f.id, f.available_capacity, c.seat_capacity
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ConsistencyCheck(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return lista de inconsistencias encontradas (vacía si no hay ninguna).
+     */
+    List<String> verify(Seeder.Dataset data, Workload workload) {
+        List<String> violations = new ArrayList<>();
+
+        Map<Long, Long> confirmed = new HashMap<>();
+        for (int i = 0; i < data.functionIds().length; i++) {
+            confirmed.put(data.functionIds()[i], workload.confirmedTickets(i));
+        }
+
+        jdbcTemplate.query(FUNCTIONS_QUERY, rs -> {
+            long functionId = rs.getLong(1);
+            int available = rs.getInt(2);
+            int capacity = rs.getInt(3);
+            long sold = rs.getLong(4);
+            long rollup = rs.getLong(5);
+
+            if (sold > capacity) {
+                violations.add("Sobreventa en la función " + functionId + ": " + sold + " tickets para " + capacity + " butacas.");
+            }
+            if (available < 0) {
+                violations.add("Capacidad disponible negativa en la función " + functionId + ": " + available + ".");
+            }
+            if (available + sold != capacity) {
+                violations.add("Capacidad inconsistente en la función " + functionId + ": disponible " + available
+                        + " + vendidos " + sold + " != " + capacity + ".");
+            }
+            long expected = confirmed.getOrDefault(functionId, 0L);
+            if (sold != expected) {
+                violations.add("La función " + functionId + " tiene " + sold + " tickets, pero la API confirmó " + expected + ".");
+            }
+            if (rollup != sold) {
+                violations.add("El acumulado de ventas de la función " + functionId + " indica " + rollup
+                        + " tickets, pero hay " + sold + ".");
+            }
+        });
+
+        Long negative = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM card WHERE balance < 0", Long.class);
+        if (negative != null && negative > 0) {
+            violations.add(negative + " tarjetas quedaron con saldo negativo.");
+        }
+
+        Double balance = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(balance), 0) FROM card", Double.class);
+        Double revenue = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(ticket_price), 0) FROM tickets", Double.class);
+        double charged = data.initialBalance() - (balance == null ? 0 : balance);
+        double sold = revenue == null ? 0 : revenue;
+        if (Math.abs(charged - sold) > 0.01) {
+            violations.add(String.format("Se descontaron $%.2f de las tarjetas, pero los tickets suman $%.2f.", charged, sold));
+        }
+
+        return violations;
+    }
+}
@@ -0,0 +1,110 @@
+package com.api.boleteria.loadtest;
+
+import com.api.boleteria.MiApplicationImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prueba de carga de punta a punta, sin servicios externos.
+ *
+ * Levanta la aplicación con el perfil embedded (H2 en modo MySQL) en un puerto libre, siembra los datos,
+ * ejecuta la carga mixta configurada y reporta rendimiento, percentiles de latencia e inconsistencias.
+ * Termina con código 1 si encuentra inconsistencias y load.fail-on-violation está activo.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.from(args);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MiApplicationImpl.class)
+                .profiles("embedded")
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.com.api.boleteria.config.SqlStatisticsFilter=ERROR",
+                        "app.sql.max-statements=1000",
+                        "app.sql.max-time-ms=60000",
+                        "app.sql.repeated-threshold=1000",
+                        "spring.threads.virtual.enabled=" + options.serverVirtualThreads())
+                .run();
+
+        int exitCode = 0;
+        try {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            ApiClient api = new ApiClient(port);
+
+            System.out.println("Sembrando datos: " + options);
+            Seeder.Dataset data = new Seeder(context, api, options).seed();
+
+            System.out.println("Iniciando sesión con " + options.users() + " clientes");
+            Workload workload = new Workload(api, options, data);
+            workload.openSessions();
+
+            System.out.printf("Ejecutando carga %s con hilos %s (%d s de calentamiento, %d s de medición)%n",
+                    options.model(), options.threads(), options.warmupSeconds(), options.durationSeconds());
+            double seconds = workload.run();
+
+            List<String> violations = new ConsistencyCheck(context.getBean(JdbcTemplate.class)).verify(data, workload);
+            print(workload, seconds, violations);
+            save(options, workload, seconds, violations);
+
+            if (!violations.isEmpty() && options.failOnViolation()) {
+                exitCode = 1;
+            }
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static void print(Workload workload, double seconds, List<String> violations) {
+        System.out.println();
+        System.out.println(OperationStats.header());
+        long total = 0;
+        for (OperationStats stats : workload.stats().values()) {
+            if (stats.total() > 0) {
+                System.out.println(stats.line(seconds));
+                total += stats.total();
+            }
+        }
+        System.out.printf("%nRendimiento total: %.1f req/s%n", total / seconds);
+
+        System.out.println();
+        if (violations.isEmpty()) {
+            System.out.println("Sin inconsistencias.");
+        } else {
+            System.out.println("Inconsistencias encontradas: " + violations.size());
+            violations.stream().limit(20).forEach(v -> System.out.println(" - " + v));
+        }
+    }
+
+    private static void save(LoadTestOptions options, Workload workload, double seconds, List<String> violations) throws Exception {
+        if (options.report().isBlank()) {
+            return;
+        }
+        Map<String, Object> operations = new LinkedHashMap<>();
+        workload.stats().forEach((name, stats) -> operations.put(name, stats.toMap(seconds)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options);
+        report.put("seconds", seconds);
+        report.put("operations", operations);
+        report.put("violations", violations);
+
+        File file = new File(options.report());
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.println("Reporte guardado en " + file.getPath());
+    }
+}
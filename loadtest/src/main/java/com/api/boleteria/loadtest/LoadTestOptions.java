@@ -0,0 +1,101 @@
+package com.api.boleteria.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Opciones de la prueba de carga. Se leen de argumentos --load.clave=valor o, si no se indican,
+ * de propiedades del sistema -Dload.clave=valor.
+ *
+ * @param durationSeconds      duración de la medición.
+ * @param warmupSeconds        duración del calentamiento previo, cuyas mediciones se descartan.
+ * @param users                cantidad de usuarios clientes sembrados.
+ * @param movies               cantidad de películas sembradas.
+ * @param cinemas              cantidad de salas sembradas.
+ * @param functionsPerCinema   funciones programadas por sala.
+ * @param model                CLOSED (cantidad fija de clientes) u OPEN (tasa fija de llegadas).
+ * @param threads              VIRTUAL o PLATFORM para los hilos que generan la carga.
+ * @param concurrency          clientes simultáneos (CLOSED) o tamaño del pool de hilos de plataforma (OPEN).
+ * @param rate                 peticiones por segundo en el modelo OPEN.
+ * @param browseWeight         peso relativo de las consultas de catálogo.
+ * @param loginWeight          peso relativo de los inicios de sesión.
+ * @param buyWeight            peso relativo de las compras.
+ * @param maxTicketsPerPurchase máximo de tickets por compra.
+ * @param serverVirtualThreads si el servidor atiende las peticiones con hilos virtuales.
+ * @param seed                 semilla de los datos y de la carga.
+ * @param report               archivo JSON donde guardar el reporte (vacío para no guardarlo).
+ * @param failOnViolation      si la prueba termina con error cuando detecta inconsistencias.
+ */
+record LoadTestOptions(
+        int durationSeconds,
+        int warmupSeconds,
+        int users,
+        int movies,
+        int cinemas,
+        int functionsPerCinema,
+        Model model,
+        Threads threads,
+        int concurrency,
+        int rate,
+        int browseWeight,
+        int loginWeight,
+        int buyWeight,
+        int maxTicketsPerPurchase,
+        boolean serverVirtualThreads,
+        long seed,
+        String report,
+        boolean failOnViolation
+) {
+
+    enum Model {
+        CLOSED,
+        OPEN
+    }
+
+    enum Threads {
+        VIRTUAL,
+        PLATFORM
+    }
+
+    static LoadTestOptions from(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--load.") && arg.contains("=")) {
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        Source source = new Source(values);
+
+        return new LoadTestOptions(
+                source.integer("duration-seconds", 60),
+                source.integer("warmup-seconds", 10),
+                source.integer("users", 500),
+                source.integer("movies", 40),
+                source.integer("cinemas", 12),
+                source.integer("functions-per-cinema", 10),
+                Model.valueOf(source.text("model", "CLOSED").toUpperCase()),
+                Threads.valueOf(source.text("threads", "VIRTUAL").toUpperCase()),
+                source.integer("concurrency", 64),
+                source.integer("rate", 300),
+                source.integer("browse-weight", 70),
+                source.integer("login-weight", 10),
+                source.integer("buy-weight", 20),
+                source.integer("max-tickets-per-purchase", 4),
+                Boolean.parseBoolean(source.text("server-virtual-threads", "false")),
+                Long.parseLong(source.text("seed", "42")),
+                source.text("report", ""),
+                Boolean.parseBoolean(source.text("fail-on-violation", "true"))
+        );
+    }
+
+    private record Source(Map<String, String> values) {
+        String text(String key, String defaultValue) {
+            String value = values.get("load." + key);
+            return value != null ? value : System.getProperty("load." + key, defaultValue);
+        }
+
+        int integer(String key, int defaultValue) {
+            return Integer.parseInt(text(key, Integer.toString(defaultValue)));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.api.boleteria.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y resultados de un tipo de operación.
+ *
+ * Las respuestas 2xx cuentan como exitosas; los rechazos de negocio esperables (entradas agotadas o fondos
+ * insuficientes) se cuentan aparte y no como errores.
+ */
+final class OperationStats {
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    enum Outcome {
+        OK,
+        REJECTED,
+        ERROR
+    }
+
+    void record(long latencyNanos, Outcome outcome) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), latencies.getHighestTrackableValue()));
+        switch (outcome) {
+            case OK -> ok.increment();
+            case REJECTED -> rejected.increment();
+            case ERROR -> errors.increment();
+        }
+    }
+
+    long total() {
+        return ok.sum() + rejected.sum() + errors.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    String line(double seconds) {
+        return String.format("%-8s %9d %9d %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+                name, ok.sum(), rejected.sum(), errors.sum(), total() / seconds,
+                millis(50), millis(90), millis(99), millis(99.9), latencies.getMaxValue() / 1000.0);
+    }
+
+    static String header() {
+        return String.format("%-8s %9s %9s %9s %10s %9s %9s %9s %9s %9s",
+                "op", "ok", "rechazo", "error", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    Map<String, Object> toMap(double seconds) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("ok", ok.sum());
+        map.put("rejected", rejected.sum());
+        map.put("errors", errors.sum());
+        map.put("throughput", total() / seconds);
+        map.put("p50Ms", millis(50));
+        map.put("p90Ms", millis(90));
+        map.put("p99Ms", millis(99));
+        map.put("p999Ms", millis(99.9));
+        map.put("maxMs", latencies.getMaxValue() / 1000.0);
+        return map;
+    }
+
+    private double millis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,182 @@
+package com.api.boleteria.loadtest;
+
+import com.api.boleteria.model.Card;
+import com.api.boleteria.model.User;
+import com.api.boleteria.model.enums.CardType;
+import com.api.boleteria.model.enums.Role;
+import com.api.boleteria.model.enums.ScreenType;
+import com.api.boleteria.repository.ICardRepository;
+import com.api.boleteria.repository.IUserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Siembra los datos de la prueba.
+ *
+ * El catálogo (películas, salas y funciones) se crea por la API con el administrador, de modo que
+ * pase por las validaciones y actualice los modelos en memoria. Los usuarios y sus tarjetas se guardan
+ * directamente con los repositorios y un único hash de contraseña, para no pagar un BCrypt por usuario.
+ */
+final class Seeder {
+
+    static final String PASSWORD = "Clave123!";
+    static final double TICKET_PRICE = 2500.0;
+
+    private static final String[] GENRES = {"Acción", "Drama", "Comedia", "Terror", "Animación", "Ciencia ficción"};
+    private static final String[] CLASSIFICATIONS = {"ATP", "+13", "+16", "+18"};
+    private static final String[] WORDS = {"noche", "viaje", "sombra", "ciudad", "último", "secreto", "río", "fuego", "memoria", "invierno"};
+
+    /**
+     * Datos sembrados que usa la carga.
+     *
+     * @param movieIds         IDs de las películas.
+     * @param functionIds      IDs de las funciones, de la más a la menos demandada.
+     * @param usernames        nombres de usuario de los clientes.
+     * @param initialBalance   saldo total inicial de todas las tarjetas.
+     * @param words            palabras usadas en los títulos, para las búsquedas.
+     */
+    record Dataset(long[] movieIds, long[] functionIds, String[] usernames, double initialBalance, String[] words) {}
+
+    private final ApplicationContext context;
+    private final ApiClient api;
+    private final LoadTestOptions options;
+    private final Random random;
+
+    Seeder(ApplicationContext context, ApiClient api, LoadTestOptions options) {
+        this.context = context;
+        this.api = api;
+        this.options = options;
+        this.random = new Random(options.seed());
+    }
+
+    Dataset seed() throws Exception {
+        String admin = api.login("admin", "Admin123!");
+        if (admin == null) {
+            throw new IllegalStateException("No se pudo iniciar sesión con el administrador.");
+        }
+
+        long[] movieIds = ids(createMovies(admin));
+        JsonNode cinemas = createCinemas(admin);
+        long[] functionIds = ids(createFunctions(admin, cinemas, movieIds));
+        shuffle(functionIds);
+
+        String[] usernames = new String[options.users()];
+        double initialBalance = createUsers(usernames);
+
+        return new Dataset(movieIds, functionIds, usernames, initialBalance, WORDS);
+    }
+
+    private JsonNode createMovies(String token) throws Exception {
+        List<Map<String, Object>> movies = new ArrayList<>();
+        for (int i = 1; i <= options.movies(); i++) {
+            String title = capitalize(WORDS[random.nextInt(WORDS.length)]) + " de " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            movies.add(Map.of(
+                    "title", title,
+                    "duration", 85 + random.nextInt(80),
+                    "genre", GENRES[random.nextInt(GENRES.length)],
+                    "director", "Director " + (1 + random.nextInt(25)),
+                    "classification", CLASSIFICATIONS[random.nextInt(CLASSIFICATIONS.length)],
+                    "synopsis", "Una historia sobre " + WORDS[random.nextInt(WORDS.length)] + " y " + WORDS[random.nextInt(WORDS.length)] + "."));
+        }
+        return created(api.post("/api/movies/create", movies, token), "películas");
+    }
+
+    private JsonNode createCinemas(String token) throws Exception {
+        List<Map<String, Object>> cinemas = new ArrayList<>();
+        for (int i = 1; i <= options.cinemas(); i++) {
+            cinemas.add(Map.of(
+                    "name", "Sala " + i,
+                    "screenType", ScreenType.values()[random.nextInt(ScreenType.values().length)].name(),
+                    "atmos", random.nextBoolean(),
+                    // Salas chicas para que las funciones más demandadas se agoten durante la prueba.
+                    "capacity", 40 + random.nextInt(160),
+                    "enabled", true));
+        }
+        return created(api.post("/api/cinemas/create", cinemas, token), "salas");
+    }
+
+    private JsonNode createFunctions(String token, JsonNode cinemas, long[] movieIds) throws Exception {
+        List<Map<String, Object>> functions = new ArrayList<>();
+        LocalDateTime start = LocalDate.now().plusDays(1).atTime(10, 0);
+        for (JsonNode cinema : cinemas) {
+            LocalDateTime showtime = start;
+            for (int i = 0; i < options.functionsPerCinema(); i++) {
+                functions.add(Map.of(
+                        "showtime", showtime.toString(),
+                        "cinemaId", cinema.path("id").asLong(),
+                        "movieId", movieIds[random.nextInt(movieIds.length)]));
+                // Las películas duran a lo sumo 165 minutos: con 3 horas entre funciones nunca se solapan.
+                showtime = showtime.plusHours(3);
+            }
+        }
+        return created(api.post("/api/functions/create", functions, token), "funciones");
+    }
+
+    private double createUsers(String[] usernames) {
+        IUserRepository userRepository = context.getBean(IUserRepository.class);
+        ICardRepository cardRepository = context.getBean(ICardRepository.class);
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        List<User> users = new ArrayList<>(usernames.length);
+        for (int i = 0; i < usernames.length; i++) {
+            usernames[i] = "cliente" + (i + 1);
+            User user = new User("Cliente", "Prueba", usernames[i], usernames[i] + "@correo.com.ar", hash);
+            user.setRole(Role.CLIENT);
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+
+        double total = 0;
+        List<Card> cards = new ArrayList<>(users.size());
+        for (User user : users) {
+            // Uno de cada cinco clientes tiene saldo para pocas entradas, para provocar fondos insuficientes.
+            double balance = random.nextInt(5) == 0 ? TICKET_PRICE * (1 + random.nextInt(3)) : 200_000.0;
+            total += balance;
+            cards.add(Card.builder()
+                    .cardNumber("4" + String.format("%015d", user.getId()))
+                    .cardholderName(user.getName() + " " + user.getSurname())
+                    .expirationDate("12/30")
+                    .issueDate("01/24")
+                    .cvv("123")
+                    .cardType(CardType.CREDIT)
+                    .balance(balance)
+                    .user(user)
+                    .build());
+        }
+        cardRepository.saveAll(cards);
+        return total;
+    }
+
+    private JsonNode created(ApiClient.Response response, String what) throws Exception {
+        if (!response.ok()) {
+            throw new IllegalStateException("No se pudieron crear las " + what + ": " + response.status() + " " + response.body());
+        }
+        return api.json(response);
+    }
+
+    private static long[] ids(JsonNode nodes) {
+        long[] ids = new long[nodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = nodes.get(i).path("id").asLong();
+        }
+        return ids;
+    }
+
+    private void shuffle(long[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
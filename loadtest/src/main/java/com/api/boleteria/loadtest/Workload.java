@@ -0,0 +1,222 @@
+package com.api.boleteria.loadtest;
+
+import com.api.boleteria.loadtest.OperationStats.Outcome;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Genera la carga mixta de consultas, inicios de sesión y compras.
+ *
+ * En el modelo CLOSED, una cantidad fija de clientes ejecuta operaciones una tras otra. En el modelo OPEN,
+ * las operaciones se lanzan a una tasa fija sin esperar a que terminen las anteriores, y la latencia se mide
+ * desde el instante en que debía comenzar cada una, para no ocultar las demoras por encolamiento.
+ * La demanda de funciones sigue una distribución de tipo Zipf: unas pocas funciones concentran la mayoría de las compras.
+ */
+final class Workload {
+
+    private final ApiClient api;
+    private final LoadTestOptions options;
+    private final Seeder.Dataset data;
+    private final double[] functionDemand;
+
+    private final AtomicReferenceArray<String> tokens;
+    /** Tickets cuya compra confirmó la API, por posición de la función en el dataset. */
+    private final AtomicLongArray confirmedTickets;
+
+    /** Se completa en el constructor y después solo se lee, por lo que puede compartirse entre hilos. */
+    private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+    private volatile long measureFrom;
+
+    Workload(ApiClient api, LoadTestOptions options, Seeder.Dataset data) {
+        this.api = api;
+        this.options = options;
+        this.data = data;
+        this.functionDemand = zipf(data.functionIds().length);
+        this.tokens = new AtomicReferenceArray<>(data.usernames().length);
+        this.confirmedTickets = new AtomicLongArray(data.functionIds().length);
+        for (String name : new String[]{"browse", "login", "buy", "error"}) {
+            stats.put(name, new OperationStats(name));
+        }
+    }
+
+    Map<String, OperationStats> stats() {
+        return stats;
+    }
+
+    long confirmedTickets(int functionIndex) {
+        return confirmedTickets.get(functionIndex);
+    }
+
+    /**
+     * Inicia sesión con todos los clientes antes de la carga, en paralelo, para que la medición no empiece
+     * con una ráfaga de inicios de sesión. Los inicios de sesión posteriores dependen de load.login-weight.
+     */
+    void openSessions() throws InterruptedException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Semaphore permits = new Semaphore(options.concurrency());
+            for (int i = 0; i < data.usernames().length; i++) {
+                int user = i;
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        tokens.set(user, api.login(data.usernames()[user], Seeder.PASSWORD));
+                    } catch (Exception e) {
+                        // El cliente inicia sesión durante la carga.
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Ejecuta el calentamiento y la medición.
+     *
+     * @return duración real de la medición en segundos.
+     */
+    double run() throws InterruptedException {
+        long start = System.nanoTime();
+        measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        ExecutorService executor = options.threads() == LoadTestOptions.Threads.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(options.concurrency());
+        try {
+            if (options.model() == LoadTestOptions.Model.CLOSED) {
+                for (int i = 0; i < options.concurrency(); i++) {
+                    long seed = options.seed() + i;
+                    executor.submit(() -> {
+                        SplittableRandom random = new SplittableRandom(seed);
+                        while (System.nanoTime() < end) {
+                            execute(random, System.nanoTime());
+                        }
+                    });
+                }
+            } else {
+                SplittableRandom seeds = new SplittableRandom(options.seed());
+                long interval = TimeUnit.SECONDS.toNanos(1) / options.rate();
+                for (long intended = start; intended < end; intended += interval) {
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    long scheduled = intended;
+                    SplittableRandom random = seeds.split();
+                    executor.submit(() -> execute(random, scheduled));
+                }
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(2, TimeUnit.MINUTES);
+            executor.shutdownNow();
+        }
+        return (System.nanoTime() - measureFrom) / 1e9;
+    }
+
+    private void execute(SplittableRandom random, long scheduled) {
+        int user = random.nextInt(data.usernames().length);
+        int pick = random.nextInt(options.browseWeight() + options.loginWeight() + options.buyWeight());
+        try {
+            String token = tokens.get(user);
+            if (token == null || pick < options.loginWeight()) {
+                login(user, scheduled);
+                return;
+            }
+            if (pick < options.loginWeight() + options.buyWeight()) {
+                buy(random, token, scheduled);
+            } else {
+                browse(random, token, scheduled);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            record("error", scheduled, Outcome.ERROR);
+        }
+    }
+
+    private void login(int user, long scheduled) throws Exception {
+        String token = api.login(data.usernames()[user], Seeder.PASSWORD);
+        if (token != null) {
+            tokens.set(user, token);
+        }
+        record("login", scheduled, token != null ? Outcome.OK : Outcome.ERROR);
+    }
+
+    private void buy(SplittableRandom random, String token, long scheduled) throws Exception {
+        int function = pickFunction(random);
+        int quantity = 1 + random.nextInt(options.maxTicketsPerPurchase());
+        ApiClient.Response response = api.post("/api/tickets/buy",
+                Map.of("functionId", data.functionIds()[function], "quantity", quantity), token);
+
+        Outcome outcome;
+        if (response.ok()) {
+            confirmedTickets.addAndGet(function, quantity);
+            outcome = Outcome.OK;
+        } else if (response.status() == 400 && (response.body().contains("entradas disponibles")
+                || response.body().contains("Fondos insuficientes"))) {
+            outcome = Outcome.REJECTED;
+        } else {
+            outcome = Outcome.ERROR;
+        }
+        record("buy", scheduled, outcome);
+    }
+
+    private void browse(SplittableRandom random, String token, long scheduled) throws Exception {
+        long movie = data.movieIds()[random.nextInt(data.movieIds().length)];
+        String path = switch (random.nextInt(6)) {
+            case 0 -> "/api/movies";
+            case 1 -> "/api/functions/now-showing";
+            case 2 -> "/api/movies/" + movie;
+            case 3 -> "/api/movies/search?q=" + URLEncoder.encode(
+                    data.words()[random.nextInt(data.words().length)], StandardCharsets.UTF_8);
+            case 4 -> "/api/functions/available/" + movie;
+            default -> "/api/movies/trending?window=DAY";
+        };
+        ApiClient.Response response = api.get(path, token);
+        // Una película sin funciones o una búsqueda sin resultados responde 404, que también es válido.
+        record("browse", scheduled, response.ok() || response.status() == 404 ? Outcome.OK : Outcome.ERROR);
+    }
+
+    private void record(String operation, long scheduled, Outcome outcome) {
+        if (scheduled >= measureFrom) {
+            stats.get(operation).record(System.nanoTime() - scheduled, outcome);
+        }
+    }
+
+    private int pickFunction(SplittableRandom random) {
+        double value = random.nextDouble();
+        int low = 0;
+        int high = functionDemand.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (functionDemand[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double[] zipf(int size) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+}
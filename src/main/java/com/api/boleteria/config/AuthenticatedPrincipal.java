@@ -0,0 +1,20 @@
+package com.api.boleteria.config;
+
+import java.security.Principal;
+
+/**
+ * Usuario autenticado de una solicitud, tal como viene en el token JWT.
+ *
+ * Lleva el ID del usuario para que los servicios no tengan que buscarlo por nombre de usuario
+ * en cada solicitud. Al implementar Principal, Authentication.getName() sigue devolviendo el nombre de usuario.
+ *
+ * @param id       ID del usuario (claim uid); null en tokens emitidos sin ese claim.
+ * @param username nombre de usuario (subject del token).
+ */
+public record AuthenticatedPrincipal(Long id, String username) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
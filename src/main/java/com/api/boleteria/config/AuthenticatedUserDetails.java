@@ -0,0 +1,25 @@
+package com.api.boleteria.config;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * UserDetails que además conserva el ID del usuario, para incluirlo en el token JWT al iniciar sesión
+ * sin volver a consultar la base de datos.
+ */
+public class AuthenticatedUserDetails extends User {
+
+    private final Long id;
+
+    public AuthenticatedUserDetails(Long id, String username, String password,
+                                    Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,535 @@
+package com.api.boleteria.config;
+
+import com.api.boleteria.model.enums.ScreenType;
+import com.api.boleteria.repository.ICinemaDailySalesRepository;
+import com.api.boleteria.repository.IFunctionSalesRepository;
+import com.api.boleteria.repository.IMovieDailySalesRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Generador de datos sintéticos a gran escala para pruebas de rendimiento (perfil generator).
+ *
+ * Inserta usuarios con tarjeta, películas, salas, funciones y tickets con distribuciones realistas:
+ * la popularidad de las películas sigue una ley de Zipf (unos pocos estrenos concentran la demanda y
+ * el resto forma una cola larga), las funciones de la noche y del fin de semana venden más, y las
+ * funciones más demandadas se agotan. Cada tabla se divide en bloques que se insertan en paralelo con
+ * INSERT de varias filas; cada bloque usa su propia semilla derivada de app.generator.seed, por lo que
+ * el resultado no depende del orden en que se ejecuten los hilos.
+ *
+ * Todos los usuarios comparten la misma contraseña (app.generator.password) y un único hash BCrypt.
+ * Al terminar se reconstruyen las tablas de ventas acumuladas y, si app.generator.exit está activo,
+ * la aplicación se cierra.
+ */
+@Component
+@Profile("generator")
+@Order(10)
+@RequiredArgsConstructor
+public class DataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGenerator.class);
+
+    private static final double TICKET_PRICE = 2500.0;
+    private static final int CHUNKS_PER_THREAD = 8;
+
+    private static final String[] NAMES = {"María", "José", "Lucía", "Juan", "Sofía", "Martín", "Valentina", "Agustín",
+            "Camila", "Mateo", "Julieta", "Tomás", "Florencia", "Nicolás", "Milagros", "Facundo"};
+    private static final String[] SURNAMES = {"González", "Rodríguez", "Fernández", "López", "Martínez", "Pérez",
+            "García", "Sánchez", "Romero", "Díaz", "Álvarez", "Torres", "Ruiz", "Gómez"};
+    private static final String[] WORDS = {"noche", "viaje", "sombra", "ciudad", "último", "secreto", "río", "fuego",
+            "memoria", "invierno", "silencio", "tormenta", "regreso", "frontera", "jardín", "espejo"};
+    private static final String[] GENRES = {"Acción", "Drama", "Comedia", "Terror", "Animación", "Ciencia ficción",
+            "Suspenso", "Documental", "Romance", "Aventura"};
+    private static final String[] CLASSIFICATIONS = {"ATP", "+13", "+16", "+18"};
+    private static final String[] CARD_TYPES = {"DEBIT", "CREDIT", "PREPAID"};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final IMovieDailySalesRepository movieDailySalesRepo;
+    private final ICinemaDailySalesRepository cinemaDailySalesRepo;
+    private final IFunctionSalesRepository functionSalesRepo;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.generator.seed:42}")
+    private long seed;
+
+    @Value("${app.generator.users:1000000}")
+    private int users;
+
+    @Value("${app.generator.movies:2000}")
+    private int movies;
+
+    @Value("${app.generator.cinemas:400}")
+    private int cinemas;
+
+    @Value("${app.generator.days:120}")
+    private int days;
+
+    @Value("${app.generator.slots-per-day:4}")
+    private int slotsPerDay;
+
+    @Value("${app.generator.tickets:10000000}")
+    private long tickets;
+
+    /** Primer día con funciones; por defecto, la mitad del período queda en el pasado. */
+    @Value("${app.generator.start-date:}")
+    private String startDate;
+
+    @Value("${app.generator.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.generator.threads:4}")
+    private int threads;
+
+    @Value("${app.generator.password:Clave123!}")
+    private String password;
+
+    @Value("${app.generator.exit:true}")
+    private boolean exit;
+
+    /** Primer ID libre de cada tabla, para no pisar los datos existentes. */
+    private long userBase, movieBase, cinemaBase, functionBase, ticketBase, cardBase;
+
+    private double[] moviePopularity;
+    private double[] movieCumulative;
+    private int[] cinemaCapacity;
+    private int[] functionMovie;
+    private int[] functionSold;
+    private LocalDate firstDay;
+    private LocalDateTime now;
+
+
+    //-------------------------------RUN--------------------------------//
+
+    @Override
+    public void run(String... args) throws Exception {
+        long start = System.currentTimeMillis();
+        now = LocalDateTime.now();
+        firstDay = startDate.isBlank() ? now.toLocalDate().minusDays(days / 2) : LocalDate.parse(startDate);
+        userBase = nextId("users");
+        cardBase = nextId("card");
+        movieBase = nextId("movies");
+        cinemaBase = nextId("cinemas");
+        functionBase = nextId("functions");
+        ticketBase = nextId("tickets");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            planMovies();
+            planCinemas();
+            planFunctions();
+
+            insertMovies(executor);
+            insertCinemas(executor);
+            insertUsers(executor);
+            insertCards(executor);
+            insertFunctions(executor);
+            insertTickets(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        rebuildRollups();
+        log.info("Generación completa en {} s", (System.currentTimeMillis() - start) / 1000);
+
+        if (exit) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+
+    //-------------------------------PLAN--------------------------------//
+
+    /**
+     * Popularidad de Zipf: las películas de mayor índice son los estrenos más recientes y más vistos.
+     */
+    private void planMovies() {
+        moviePopularity = new double[movies];
+        movieCumulative = new double[movies];
+        double total = 0;
+        for (int i = 0; i < movies; i++) {
+            moviePopularity[i] = 1.0 / Math.pow(movies - i, 1.07);
+            total += moviePopularity[i];
+            movieCumulative[i] = total;
+        }
+        for (int i = 0; i < movies; i++) {
+            moviePopularity[i] /= total;
+            movieCumulative[i] /= total;
+        }
+    }
+
+    private void planCinemas() {
+        SplittableRandom random = random(1, 0);
+        cinemaCapacity = new int[cinemas];
+        for (int i = 0; i < cinemas; i++) {
+            cinemaCapacity[i] = 60 + random.nextInt(141);
+        }
+    }
+
+    /**
+     * Elige la película de cada función (más funciones para las más populares) y reparte los tickets
+     * proporcionalmente a la demanda, sin superar la capacidad de la sala. El sobrante de las funciones
+     * agotadas se vuelve a repartir entre las que tienen lugar.
+     */
+    private void planFunctions() {
+        int functions = cinemas * days * slotsPerDay;
+        functionMovie = new int[functions];
+        functionSold = new int[functions];
+        double[] demand = new double[functions];
+
+        SplittableRandom random = random(2, 0);
+        for (int f = 0; f < functions; f++) {
+            functionMovie[f] = pick(random, movieCumulative);
+            LocalDateTime showtime = showtime(f);
+            double slot = 0.6 + 0.4 * (f % slotsPerDay + 1) / slotsPerDay;
+            double weekend = switch (showtime.getDayOfWeek()) {
+                case FRIDAY, SATURDAY, SUNDAY -> 1.5;
+                default -> 1.0;
+            };
+            double noise = Math.exp(0.5 * gaussian(random));
+            demand[f] = Math.pow(moviePopularity[functionMovie[f]], 0.8) * slot * weekend * noise;
+        }
+
+        long remaining = tickets;
+        for (int pass = 0; pass < 8 && remaining > 0; pass++) {
+            double total = 0;
+            for (int f = 0; f < functions; f++) {
+                if (functionSold[f] < capacity(f)) {
+                    total += demand[f];
+                }
+            }
+            long assigned = 0;
+            for (int f = 0; f < functions; f++) {
+                int free = capacity(f) - functionSold[f];
+                if (free > 0) {
+                    int add = (int) Math.min(free, Math.round(remaining * demand[f] / total));
+                    functionSold[f] += add;
+                    assigned += add;
+                }
+            }
+            remaining -= assigned;
+            if (assigned == 0) {
+                break;
+            }
+        }
+
+        long soldOut = 0;
+        for (int f = 0; f < functions; f++) {
+            if (functionSold[f] == capacity(f)) {
+                soldOut++;
+            }
+        }
+        log.info("Plan: {} funciones, {} tickets, {} funciones agotadas", functions, tickets - remaining, soldOut);
+    }
+
+
+    //-------------------------------INSERT--------------------------------//
+
+    private void insertMovies(ExecutorService executor) throws Exception {
+        insert(executor, "movies", new String[]{"id", "title", "duration", "movie_genre", "director", "classification", "synopsis"},
+                3, movies, (from, to, random, rows) -> {
+                    for (int i = from; i < to; i++) {
+                        String title = capitalize(word(random)) + " de " + word(random) + " " + (movieBase + i);
+                        rows.accept(new Object[]{movieBase + i, title, 80 + random.nextInt(91),
+                                GENRES[random.nextInt(GENRES.length)],
+                                NAMES[random.nextInt(NAMES.length)] + " " + SURNAMES[random.nextInt(SURNAMES.length)],
+                                CLASSIFICATIONS[random.nextInt(CLASSIFICATIONS.length)],
+                                "Una historia sobre " + word(random) + ", " + word(random) + " y " + word(random) + "."});
+                    }
+                });
+    }
+
+    private void insertCinemas(ExecutorService executor) throws Exception {
+        insert(executor, "cinemas", new String[]{"id", "name", "screen_type", "atmos", "seat_capacity", "enabled"},
+                4, cinemas, (from, to, random, rows) -> {
+                    for (int i = from; i < to; i++) {
+                        int type = random.nextInt(100);
+                        ScreenType screenType = type < 60 ? ScreenType.STANDARD
+                                : type < 80 ? ScreenType.THREE_D
+                                : type < 92 ? ScreenType.IMAX : ScreenType.FOUR_D;
+                        rows.accept(new Object[]{cinemaBase + i, "Sala " + (cinemaBase + i), screenType.name(),
+                                random.nextInt(10) < 3, cinemaCapacity[i], true});
+                    }
+                });
+    }
+
+    private void insertUsers(ExecutorService executor) throws Exception {
+        String hash = passwordEncoder.encode(password);
+        insert(executor, "users", new String[]{"id", "name", "surname", "username", "email", "password", "role"},
+                5, users, (from, to, random, rows) -> {
+                    for (int i = from; i < to; i++) {
+                        long id = userBase + i;
+                        rows.accept(new Object[]{id, NAMES[random.nextInt(NAMES.length)], SURNAMES[random.nextInt(SURNAMES.length)],
+                                "usuario" + id, "usuario" + id + "@correo.com.ar", hash, "CLIENT"});
+                    }
+                });
+    }
+
+    private void insertCards(ExecutorService executor) throws Exception {
+        insert(executor, "card", new String[]{"id", "card_number", "cardholder_name", "expiration_date", "issue_date",
+                        "cvv", "card_type", "balance", "user_id"},
+                6, users, (from, to, random, rows) -> {
+                    for (int i = from; i < to; i++) {
+                        rows.accept(new Object[]{cardBase + i, "4" + String.format("%015d", userBase + i),
+                                NAMES[random.nextInt(NAMES.length)] + " " + SURNAMES[random.nextInt(SURNAMES.length)],
+                                String.format("%02d/%02d", 1 + random.nextInt(12), 27 + random.nextInt(5)),
+                                String.format("%02d/%02d", 1 + random.nextInt(12), 20 + random.nextInt(5)),
+                                String.format("%03d", random.nextInt(1000)),
+                                CARD_TYPES[random.nextInt(CARD_TYPES.length)],
+                                (double) random.nextInt(200) * 500, userBase + i});
+                    }
+                });
+    }
+
+    private void insertFunctions(ExecutorService executor) throws Exception {
+        insert(executor, "functions", new String[]{"id", "showtime", "available_capacity", "cinema_id", "movie_id"},
+                7, functionSold.length, (from, to, random, rows) -> {
+                    for (int f = from; f < to; f++) {
+                        rows.accept(new Object[]{functionBase + f, Timestamp.valueOf(showtime(f)),
+                                capacity(f) - functionSold[f], cinemaBase + cinema(f), movieBase + functionMovie[f]});
+                    }
+                });
+    }
+
+    /**
+     * Inserta los tickets de cada función en compras de uno a cuatro tickets. Los usuarios más activos
+     * concentran la mayoría de las compras, y la compra se hace entre unos minutos y dos semanas antes de la función.
+     */
+    private void insertTickets(ExecutorService executor) throws Exception {
+        long[] firstTicket = new long[functionSold.length + 1];
+        for (int f = 0; f < functionSold.length; f++) {
+            firstTicket[f + 1] = firstTicket[f] + functionSold[f];
+        }
+
+        insert(executor, "tickets", new String[]{"id", "purchase_date_time", "ticket_price", "function_id", "user_id"},
+                8, functionSold.length, (from, to, random, rows) -> {
+                    for (int f = from; f < to; f++) {
+                        long id = ticketBase + firstTicket[f];
+                        LocalDateTime showtime = showtime(f);
+                        int left = functionSold[f];
+                        while (left > 0) {
+                            int quantity = Math.min(left, 1 + random.nextInt(4));
+                            long user = userBase + (long) (users * Math.pow(random.nextDouble(), 2.5));
+                            long leadMinutes = (long) (20160 * Math.pow(random.nextDouble(), 2)) + 5;
+                            LocalDateTime purchase = showtime.minusMinutes(leadMinutes);
+                            if (purchase.isAfter(now)) {
+                                purchase = now.minusMinutes(random.nextInt(1440));
+                            }
+                            Timestamp purchasedAt = Timestamp.valueOf(purchase.withNano(0));
+                            for (int q = 0; q < quantity; q++) {
+                                rows.accept(new Object[]{id++, purchasedAt, TICKET_PRICE, functionBase + f, user});
+                            }
+                            left -= quantity;
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Divide las filas de una tabla en bloques y los inserta en paralelo, cada uno con su conexión,
+     * su transacción y su semilla.
+     */
+    private void insert(ExecutorService executor, String table, String[] columns, int tableIndex, int count,
+                        ChunkWriter writer) throws Exception {
+        long start = System.currentTimeMillis();
+        int chunks = Math.max(1, Math.min(count, threads * CHUNKS_PER_THREAD));
+        List<Future<Long>> results = new ArrayList<>();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = (int) ((long) count * chunk / chunks);
+            int to = (int) ((long) count * (chunk + 1) / chunks);
+            SplittableRandom random = random(tableIndex, chunk + 1);
+            results.add(executor.submit(() -> {
+                try (Connection connection = dataSource.getConnection();
+                     MultiRowInsert rows = new MultiRowInsert(connection, table, columns, batchSize)) {
+                    connection.setAutoCommit(false);
+                    writer.write(from, to, random, rows);
+                    rows.flush();
+                    connection.commit();
+                    return rows.inserted;
+                }
+            }));
+        }
+
+        long inserted = 0;
+        for (Future<Long> result : results) {
+            inserted += result.get();
+        }
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        log.info("{}: {} filas en {} ms ({} filas/s)", table, inserted, elapsed, inserted * 1000 / elapsed);
+    }
+
+    private void rebuildRollups() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM movie_daily_sales");
+            jdbcTemplate.update("DELETE FROM cinema_daily_sales");
+            jdbcTemplate.update("DELETE FROM function_sales");
+            movieDailySalesRepo.rebuildFromTickets();
+            cinemaDailySalesRepo.rebuildFromTickets();
+            functionSalesRepo.rebuildFromTickets();
+        });
+        log.info("Ventas acumuladas reconstruidas");
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(int from, int to, SplittableRandom random, Consumer<Object[]> rows) throws Exception;
+    }
+
+    /**
+     * Acumula filas y las inserta con un único INSERT de varias filas cada batchSize filas.
+     */
+    private static final class MultiRowInsert implements Consumer<Object[]>, AutoCloseable {
+        private final Connection connection;
+        private final String table;
+        private final String[] columns;
+        private final int batchSize;
+        private final PreparedStatement full;
+        private final Object[][] pending;
+        private int size;
+        private long inserted;
+
+        MultiRowInsert(Connection connection, String table, String[] columns, int batchSize) throws SQLException {
+            this.connection = connection;
+            this.table = table;
+            this.columns = columns;
+            this.batchSize = batchSize;
+            this.full = connection.prepareStatement(sql(batchSize));
+            this.pending = new Object[batchSize][];
+        }
+
+        @Override
+        public void accept(Object[] row) {
+            pending[size++] = row;
+            if (size == batchSize) {
+                execute(full);
+            }
+        }
+
+        void flush() throws SQLException {
+            if (size > 0) {
+                try (PreparedStatement tail = connection.prepareStatement(sql(size))) {
+                    execute(tail);
+                }
+            }
+        }
+
+        private void execute(PreparedStatement statement) {
+            try {
+                int index = 1;
+                for (int r = 0; r < size; r++) {
+                    for (Object value : pending[r]) {
+                        statement.setObject(index++, value);
+                    }
+                    pending[r] = null;
+                }
+                statement.executeUpdate();
+                inserted += size;
+                size = 0;
+            } catch (SQLException e) {
+                throw new IllegalStateException("No se pudieron insertar filas en " + table, e);
+            }
+        }
+
+        private String sql(int rows) {
+            String placeholders = "(" + "?,".repeat(columns.length - 1) + "?)";
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                    .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+            for (int r = 0; r < rows; r++) {
+                sql.append(r == 0 ? "" : ",").append(placeholders);
+            }
+            return sql.toString();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            full.close();
+        }
+    }
+
+
+    //-------------------------------HELPERS--------------------------------//
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return (max == null ? 0 : max) + 1;
+    }
+
+    private int cinema(int function) {
+        return function / (days * slotsPerDay);
+    }
+
+    private int capacity(int function) {
+        return cinemaCapacity[cinema(function)];
+    }
+
+    /**
+     * Las funciones de cada sala se ordenan por día y turno; los turnos comienzan a las 13 y se separan
+     * tres horas, más que la duración máxima de una película, por lo que nunca se solapan.
+     */
+    private LocalDateTime showtime(int function) {
+        int withinCinema = function % (days * slotsPerDay);
+        int day = withinCinema / slotsPerDay;
+        int slot = withinCinema % slotsPerDay;
+        return firstDay.plusDays(day).atTime(13, 0).plusHours(3L * slot);
+    }
+
+    private SplittableRandom random(int table, int chunk) {
+        return new SplittableRandom(seed * 1_000_003L + table * 10_007L + chunk);
+    }
+
+    private static int pick(SplittableRandom random, double[] cumulative) {
+        double value = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.api.boleteria.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Clase de configuración para la importación masiva de catálogos.
+ */
+@Configuration
+public class ImportConfig {
+
+    /**
+     * Crea el grupo de hilos que valida en paralelo las filas de cada bloque importado.
+     *
+     * Se publica envuelto en ImportWorkers y no como Executor: si hubiera un bean Executor, Spring Boot
+     * no crearía applicationTaskExecutor y el procesamiento asincrónico de Spring MVC usaría un hilo por solicitud.
+     *
+     * @param workers cantidad de hilos de validación.
+     * @return ImportWorkers con hilos daemon de tamaño fijo.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ImportWorkers importWorkers(@Value("${app.import.workers:4}") int workers) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "import-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ImportWorkers(Executors.newFixedThreadPool(workers, factory));
+    }
+
+    /**
+     * Grupo de hilos de validación de la importación, de uso exclusivo de ImportService.
+     */
+    public static final class ImportWorkers {
+        private final ExecutorService executor;
+
+        ImportWorkers(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        public Executor executor() {
+            return executor;
+        }
+
+        void shutdown() {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,35 +1,45 @@
 package com.api.boleteria.config;
 
+import com.api.boleteria.config.VerifiedTokenCache.VerifiedToken;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Filtro de seguridad que intercepta cada solicitud HTTP para validar el token JWT enviado en el encabezado Authorization.
  *
- * Este filtro verifica la validez y expiración del token JWT. Si es válido, extrae el nombre de usuario y los roles,
+ * Este filtro verifica la validez y expiración del token JWT. Si es válido, extrae el ID, el nombre de usuario y los roles,
  * y establece la autenticación en el contexto de seguridad de Spring Security para controlar el acceso a recursos protegidos.
+ * El principal de la autenticación es un AuthenticatedPrincipal, que lleva el ID del usuario.
+ * Cada token se verifica una sola vez: las solicitudes siguientes con el mismo token se resuelven desde VerifiedTokenCache.
  *
- * En caso de token inválido o expirado, responde con un estado 401 (No autorizado) y un mensaje descriptivo.
+ * Un token inválido o expirado no autentica la solicitud, que luego es rechazada por las reglas de seguridad.
  *
  * Este filtro se ejecuta una única vez por cada solicitud gracias a la extensión de OncePerRequestFilter.
  */
 
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthFilter.class);
+
+    private final VerifiedTokenCache tokenCache;
+
+    public JwtAuthFilter(VerifiedTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
     /**
      * Filtra cada solicitud HTTP para validar el token JWT en el encabezado Authorization.
      * Si el token es válido, establece la autenticación en el contexto de seguridad.
-     * En caso de token inválido o expirado, responde con estado 401.
      *
      * @param request  Solicitud HTTP entrante.
      * @param response Respuesta HTTP que puede modificarse en caso de error.
@@ -53,28 +63,24 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         String token = header.substring(7);
 
-        try {
-
-            if (JwtUtil.validateToken(token)) {
-
-                String username = JwtUtil.getUsername(token);
-                List<String> roles = JwtUtil.getRoles(token);
+        VerifiedToken verified = tokenCache.get(token);
 
-                List<SimpleGrantedAuthority> authorities = roles.stream()
-                        .map(r -> new SimpleGrantedAuthority("ROLE_" + r))
-                        .collect(Collectors.toList());
-
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                username, null, authorities);
-
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        if (verified == null) {
+            try {
+                verified = tokenCache.verify(token);
+            } catch (ExpiredJwtException e) {
+                log.debug("JWT expirado: {}", e.getMessage());
+            } catch (Exception e) {
+                log.warn("JWT inválido: {}", e.getMessage());
             }
-        } catch (Exception e) {
+        }
 
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("Token inválido o expirado");
-            return;
+        if (verified != null) {
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(
+                            verified.principal(), null, verified.authorities());
+
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         chain.doFilter(request, response);
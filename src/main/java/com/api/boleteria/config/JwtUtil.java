@@ -1,88 +1,197 @@
 package com.api.boleteria.config;
 
 
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 
 /**
- * Clase utilitaria para crear y validar tokens JWT.
+ * Componente para crear y validar tokens JWT.
+ *
+ * Las claves de firma se cargan de la configuración (app.jwt.keys, con entradas "kid:clave-en-base64"
+ * separadas por coma) y/o de un archivo de propiedades (app.jwt.keys-file, con líneas "kid=clave-en-base64"),
+ * de modo que todas las instancias de la aplicación compartan las mismas claves y un reinicio no invalide
+ * las sesiones. Los tokens se firman con la clave app.jwt.active-kid e indican su kid en el encabezado;
+ * al verificarlos se usa la clave de ese kid.
+ *
+ * La rotación se hace en dos despliegues, porque una instancia rechaza los tokens firmados con un kid
+ * que no conoce:
+ * 1. Se agrega la clave nueva en todas las instancias sin cambiar app.jwt.active-kid, de modo que solo
+ *    sirva para verificar.
+ * 2. Cuando todas las instancias la tienen, se cambia app.jwt.active-kid a la clave nueva.
+ * 3. La clave anterior se retira recién después de app.jwt.expiration-ms, cuando ya expiraron todos los
+ *    tokens firmados con ella.
+ * Si no se configura ninguna clave se genera una al azar, válida solo para esta instancia y este arranque.
  */
+@Component
 public class JwtUtil {
 
-    private static final SecretKey SECRET_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS256);
-    private static final long EXPIRATION = 3600000L;
+    private static final Logger log = LoggerFactory.getLogger(JwtUtil.class);
+
+    private final Map<String, SecretKey> keys;
+    private final String activeKid;
+    private final long expiration;
+    private final JwtParser parser;
+
+    public JwtUtil(@Value("${app.jwt.keys:}") String configuredKeys,
+                   @Value("${app.jwt.keys-file:}") String keysFile,
+                   @Value("${app.jwt.active-kid:}") String activeKid,
+                   @Value("${app.jwt.expiration-ms:900000}") long expiration) {
+        this.keys = loadKeys(configuredKeys, keysFile);
+        if (keys.isEmpty()) {
+            log.warn("No hay claves JWT configuradas (app.jwt.keys o app.jwt.keys-file): se genera una clave temporal. "
+                    + "Los tokens no serán válidos en otras instancias ni después de reiniciar.");
+            keys.put("local", Keys.secretKeyFor(SignatureAlgorithm.HS256));
+        }
+
+        if (activeKid.isBlank()) {
+            if (keys.size() > 1) {
+                throw new IllegalArgumentException("Hay varias claves JWT configuradas: debe indicarse app.jwt.active-kid.");
+            }
+            activeKid = keys.keySet().iterator().next();
+        }
+        if (!keys.containsKey(activeKid)) {
+            throw new IllegalArgumentException("La clave JWT activa '" + activeKid + "' no está configurada.");
+        }
+
+        this.activeKid = activeKid;
+        this.expiration = expiration;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+        log.info("Claves JWT cargadas: {} (activa: {})", keys.keySet(), this.activeKid);
+    }
 
     /**
-     * Crea un token JWT con el nombre de usuario y roles indicados.
+     * Crea un token JWT con el ID, el nombre de usuario y los roles indicados, firmado con la clave activa.
      *
+     * @param userId   ID del usuario, guardado en el claim uid.
      * @param username Nombre de usuario para asignar al token.
      * @param roles    Lista de roles asociados al usuario.
      * @return Token JWT firmado como String.
      */
-    public static String createToken(String username, List<String> roles) {
+    public String createToken(Long userId, String username, List<String> roles) {
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, activeKid)
                 .setSubject(username)
+                .claim("uid", userId)
                 .claim("roles", roles)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
-                .signWith(SECRET_KEY)
+                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                .signWith(keys.get(activeKid))
                 .compact();
     }
 
     /**
-     * Valida que el token JWT sea válido y no haya expirado.
+     * Verifica la firma y la expiración del token JWT y devuelve sus claims en una sola pasada.
      *
-     * @param token Token JWT a validar.
-     * @return true si el token es válido; false si es inválido o expirado.
+     * @param token Token JWT a verificar.
+     * @return Claims contenidos en el token.
+     * @throws JwtException si el token es inválido, expiró o fue firmado con una clave desconocida.
      */
-    public static boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .setSigningKey(SECRET_KEY)
-                    .parseClaimsJws(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            System.err.println("JWT expirado: " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("JWT inválido: " + e.getMessage());
-        }
-        return false;
+    public Claims parseToken(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
-     * Obtiene el nombre de usuario (subject) del token JWT.
+     * Obtiene el ID de usuario de los claims de un token ya verificado.
      *
-     * @param token Token JWT del cual extraer el nombre de usuario.
-     * @return Nombre de usuario contenido en el token.
+     * @param claims Claims del token.
+     * @return ID del usuario, o null si el token no tiene el claim uid.
      */
-    public static String getUsername(String token) {
-
-        return Jwts.parser()
-                .setSigningKey(SECRET_KEY)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    public static Long getUserId(Claims claims) {
+        Number uid = claims.get("uid", Number.class);
+        return uid == null ? null : uid.longValue();
     }
 
     /**
-     * Obtiene la lista de roles del token JWT.
+     * Obtiene la lista de roles de los claims de un token ya verificado.
      *
-     * @param token Token JWT del cual extraer los roles.
+     * @param claims Claims del token.
      * @return Lista de roles almacenados en el token.
      */
     @SuppressWarnings("unchecked")
-    public static List<String> getRoles(String token) {
-        return (List<String>) Jwts.parser()
-                .setSigningKey(SECRET_KEY)
-                .parseClaimsJws(token)
-                .getBody()
-                .get("roles");
+    public static List<String> getRoles(Claims claims) {
+        return (List<String>) claims.get("roles");
+    }
+
+
+    //-------------------------------KEYS--------------------------------//
+
+    private Key resolveKey(String kid) {
+        if (kid == null) {
+            throw new JwtException("El token no indica la clave de firma (kid).");
+        }
+        SecretKey key = keys.get(kid);
+        if (key == null) {
+            throw new JwtException("Clave de firma desconocida: " + kid);
+        }
+        return key;
+    }
+
+    private static Map<String, SecretKey> loadKeys(String configuredKeys, String keysFile) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+
+        if (!keysFile.isBlank()) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(Path.of(keysFile))) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new IllegalStateException("No se pudo leer el archivo de claves JWT: " + keysFile, e);
+            }
+            properties.stringPropertyNames().stream().sorted()
+                    .forEach(kid -> addKey(keys, kid, properties.getProperty(kid)));
+        }
+
+        for (String entry : configuredKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Entrada de app.jwt.keys inválida, se espera kid:clave-en-base64.");
+            }
+            addKey(keys, entry.substring(0, separator), entry.substring(separator + 1));
+        }
+        return keys;
+    }
+
+    /**
+     * Agrega una clave HMAC. Keys.hmacShaKeyFor rechaza claves de menos de 256 bits.
+     */
+    private static void addKey(Map<String, SecretKey> keys, String kid, String secret) {
+        String id = kid.trim();
+        if (keys.containsKey(id)) {
+            throw new IllegalArgumentException("La clave JWT '" + id + "' está configurada más de una vez.");
+        }
+        keys.put(id, Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret.trim())));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.api.boleteria.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Clase de configuración de métricas.
+ *
+ * Habilita la anotación @Timed en los servicios. Cada temporizador registra la latencia y la cantidad
+ * de invocaciones, con la etiqueta "exception" indicando el resultado (none si terminó sin errores).
+ * Las métricas de repositorios, del pool Hikari y de Hibernate las registra Spring Boot automáticamente.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -1,5 +1,7 @@
 package com.api.boleteria.config;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,6 +19,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * Define las reglas de seguridad HTTP, deshabilita CSRF, login por formulario y HTTP Basic,
  * configura el manejo de sesiones como stateless, y establece permisos y autenticación para rutas específicas.
  * También registra el filtro JwtAuthFilter para validar tokens JWT en cada solicitud.
+ *
+ * De los endpoints de actuator solo /actuator/health es público. Las métricas se sirven en el puerto de
+ * administración (management.server.port), que escucha en una dirección interna y no requiere token para
+ * que el recolector de métricas pueda leerlas.
  */
 
 @Configuration
@@ -28,11 +34,18 @@ public class SecurityConfig {
      * Configura la cadena de filtros de seguridad HTTP.
      *
      * @param http objeto HttpSecurity para configurar la seguridad HTTP.
+     * @param jwtAuthFilter filtro que valida el token JWT de cada solicitud.
+     * @param serverPort puerto de la API.
+     * @param managementPort puerto de administración; -1 si actuator comparte el puerto de la API.
      * @return SecurityFilterChain configurada con reglas y filtros definidos.
      * @throws Exception si ocurre un error en la configuración.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthFilter jwtAuthFilter,
+                                                   @Value("${server.port:8080}") int serverPort,
+                                                   @Value("${management.server.port:-1}") int managementPort) throws Exception {
+        boolean separateManagementPort = managementPort > 0 && managementPort != serverPort;
+
         http
                 .csrf(csrf -> csrf.disable())
                 .formLogin(form -> form.disable())
@@ -42,7 +55,10 @@ public class SecurityConfig {
                         sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers(request -> separateManagementPort && request.getLocalPort() == managementPort).permitAll()
                         .requestMatchers("/api/cinemas/**").authenticated()
                         .requestMatchers("/api/movies/**").authenticated()
                         .requestMatchers("/api/card/**").authenticated()
@@ -50,7 +66,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/userManagement/**").authenticated()
                         .anyRequest().authenticated())
 
-                .addFilterBefore(jwtAuthFilter(),
+                .addFilterBefore(jwtAuthFilter,
                         UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -59,10 +75,11 @@ public class SecurityConfig {
     /**
      * Crea un bean del filtro JwtAuthFilter para validar tokens JWT.
      *
+     * @param tokenCache caché de tokens ya verificados.
      * @return instancia de JwtAuthFilter.
      */
     @Bean
-    public JwtAuthFilter jwtAuthFilter() {return new JwtAuthFilter();}
+    public JwtAuthFilter jwtAuthFilter(VerifiedTokenCache tokenCache) {return new JwtAuthFilter(tokenCache);}
 
     /**
      * Proporciona el AuthenticationManager necesario para la autenticación.
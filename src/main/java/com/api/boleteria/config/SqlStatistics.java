@@ -0,0 +1,109 @@
+package com.api.boleteria.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contador de sentencias SQL y tiempo de base de datos por hilo.
+ *
+ * SqlStatisticsFilter abre una medición al comienzo de cada petición HTTP y el DataSource instrumentado
+ * (ver SqlStatisticsConfig) suma en ella cada sentencia ejecutada. Las pruebas de integración pueden
+ * usar {@link #measure(Runnable)} para verificar cuántas sentencias ejecuta una operación.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatistics() {
+    }
+
+    /**
+     * Resultado de una medición.
+     */
+    public static final class Stats {
+        private int statements;
+        private long elapsedMillis;
+        private final Map<String, Integer> executions = new HashMap<>();
+
+        void record(String sql, int count, long elapsed) {
+            statements += count;
+            elapsedMillis += elapsed;
+            executions.merge(sql, count, Integer::sum);
+        }
+
+        /** @return cantidad de sentencias ejecutadas (cada elemento de un batch cuenta por separado). */
+        public int statements() {
+            return statements;
+        }
+
+        /** @return tiempo total de ejecución en la base de datos, en milisegundos. */
+        public long elapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Busca la sentencia que más veces se repitió, síntoma típico de un problema N+1.
+         *
+         * @return entrada con el SQL y la cantidad de ejecuciones, o null si no se ejecutó ninguna.
+         */
+        public Map.Entry<String, Integer> mostRepeated() {
+            return executions.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+    }
+
+
+    //-------------------------------MEASURE--------------------------------//
+
+    /**
+     * Abre una medición en el hilo actual, reemplazando la anterior si existía.
+     *
+     * @return la medición abierta.
+     */
+    public static Stats begin() {
+        Stats stats = new Stats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Cierra la medición del hilo actual.
+     *
+     * @return la medición cerrada, o null si no había ninguna abierta.
+     */
+    public static Stats end() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * Ejecuta una operación midiendo las sentencias SQL que realiza en el hilo actual.
+     * Al terminar se restaura la medición que estuviera abierta antes.
+     *
+     * @param operation operación a medir.
+     * @return la medición de la operación.
+     */
+    public static Stats measure(Runnable operation) {
+        Stats previous = CURRENT.get();
+        Stats stats = begin();
+        try {
+            operation.run();
+            return stats;
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void record(String sql, int count, long elapsedMillis) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(sql, count, elapsedMillis);
+        }
+    }
+}
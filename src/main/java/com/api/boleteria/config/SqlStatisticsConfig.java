@@ -0,0 +1,54 @@
+package com.api.boleteria.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Clase de configuración que instrumenta el DataSource para contar sentencias SQL.
+ *
+ * Cada ejecución, tanto de Hibernate como de JdbcTemplate, se suma a la medición abierta en el hilo
+ * actual (ver SqlStatistics). Los elementos de un batch se cuentan por separado.
+ */
+@Configuration
+public class SqlStatisticsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static QueryExecutionListener listener() {
+        return new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                int count = execInfo.isBatch() ? Math.max(1, execInfo.getBatchSize()) : 1;
+                String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+                SqlStatistics.record(sql, count, execInfo.getElapsedTime());
+            }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.api.boleteria.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * Filtro que mide las sentencias SQL y el tiempo de base de datos de cada petición HTTP.
+ *
+ * Registra una advertencia cuando la petición supera el presupuesto de sentencias o de tiempo, o cuando
+ * una misma sentencia se repite demasiadas veces (posible N+1). Si app.sql.stats-header está activo
+ * (perfil dev), agrega los encabezados X-SQL-Statements y X-SQL-Time-Ms con lo ejecutado hasta que
+ * se empieza a escribir la respuesta.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatisticsFilter.class);
+
+    @Value("${app.sql.max-statements:20}")
+    private int maxStatements;
+
+    @Value("${app.sql.max-time-ms:500}")
+    private long maxTimeMillis;
+
+    @Value("${app.sql.repeated-threshold:5}")
+    private int repeatedThreshold;
+
+    @Value("${app.sql.stats-header:false}")
+    private boolean statsHeader;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+
+        SqlStatistics.Stats stats = SqlStatistics.begin();
+        try {
+            chain.doFilter(request, statsHeader ? new StatsHeaderResponse(response, stats) : response);
+        } finally {
+            SqlStatistics.end();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatistics.Stats stats) {
+        Map.Entry<String, Integer> repeated = stats.mostRepeated();
+        boolean overBudget = stats.statements() > maxStatements || stats.elapsedMillis() > maxTimeMillis;
+        boolean possibleNPlusOne = repeated != null && repeated.getValue() >= repeatedThreshold;
+
+        if (overBudget || possibleNPlusOne) {
+            log.warn("{} {} ejecutó {} sentencias SQL en {} ms. La más repetida ({} veces): {}",
+                    request.getMethod(), request.getRequestURI(), stats.statements(), stats.elapsedMillis(),
+                    repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    /**
+     * Respuesta que agrega los encabezados de estadísticas justo antes de empezar a escribirse.
+     */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+        private final SqlStatistics.Stats stats;
+        private boolean written;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatistics.Stats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void addStatsHeaders() {
+            if (!written && !isCommitted()) {
+                written = true;
+                setHeader("X-SQL-Statements", Integer.toString(stats.statements()));
+                setHeader("X-SQL-Time-Ms", Long.toString(stats.elapsedMillis()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addStatsHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addStatsHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addStatsHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addStatsHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addStatsHeaders();
+            super.sendError(sc);
+        }
+    }
+}
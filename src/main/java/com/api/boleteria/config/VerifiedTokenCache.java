@@ -0,0 +1,111 @@
+package com.api.boleteria.config;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caché de tokens JWT ya verificados.
+ *
+ * Guarda el usuario (ID y nombre) y los roles de cada token válido hasta su expiración, de modo que las solicitudes
+ * siguientes de la misma sesión no vuelvan a decodificar el token ni a verificar su firma.
+ * Los tokens se indexan por su hash SHA-256, nunca por el token en sí. El tamaño está acotado por
+ * app.jwt.cache-size: al llenarse se descartan los tokens expirados y, si no alcanza, se vacía.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /**
+     * Datos de un token verificado.
+     *
+     * @param principal   ID y nombre de usuario del token.
+     * @param authorities roles del token como autoridades de Spring Security.
+     * @param expiresAt   instante de expiración del token en milisegundos.
+     */
+    public record VerifiedToken(AuthenticatedPrincipal principal, List<SimpleGrantedAuthority> authorities, long expiresAt) {
+
+        public static VerifiedToken from(Claims claims) {
+            List<SimpleGrantedAuthority> authorities = JwtUtil.getRoles(claims).stream()
+                    .map(r -> new SimpleGrantedAuthority("ROLE_" + r))
+                    .toList();
+            AuthenticatedPrincipal principal = new AuthenticatedPrincipal(JwtUtil.getUserId(claims), claims.getSubject());
+            return new VerifiedToken(principal, authorities, claims.getExpiration().getTime());
+        }
+    }
+
+    private final Map<String, VerifiedToken> tokens = new ConcurrentHashMap<>();
+    private final JwtUtil jwtUtil;
+    private final int maxSize;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil, @Value("${app.jwt.cache-size:10000}") int maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.maxSize = maxSize;
+    }
+
+
+    //-------------------------------FIND--------------------------------//
+
+    /**
+     * Obtiene los datos de un token verificado previamente, si todavía no expiró.
+     *
+     * @param token token JWT recibido.
+     * @return VerifiedToken del token, o null si no está en caché o expiró.
+     */
+    public VerifiedToken get(String token) {
+        String key = hash(token);
+        VerifiedToken verified = tokens.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.expiresAt() <= System.currentTimeMillis()) {
+            tokens.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+
+    //-------------------------------CREATE--------------------------------//
+
+    /**
+     * Verifica el token una única vez y guarda el resultado.
+     *
+     * @param token token JWT recibido.
+     * @return VerifiedToken con el usuario y los roles del token.
+     * @throws io.jsonwebtoken.JwtException si el token es inválido o expiró.
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken verified = VerifiedToken.from(jwtUtil.parseToken(token));
+        if (tokens.size() >= maxSize) {
+            evict();
+        }
+        tokens.put(hash(token), verified);
+        return verified;
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(t -> t.expiresAt() <= now);
+        if (tokens.size() >= maxSize) {
+            tokens.clear();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.api.boleteria.controller;
 
 import com.api.boleteria.dto.request.LoginRequestDTO;
+import com.api.boleteria.dto.request.RefreshTokenRequestDTO;
 import com.api.boleteria.dto.request.RegisterRequestDTO;
+import com.api.boleteria.service.RefreshTokenService;
 import com.api.boleteria.service.UserService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -19,7 +21,7 @@ import java.util.Map;
 /**
  * Controlador REST para autenticación y registro de usuarios.
  *
- * Permite a los usuarios autenticarse (login) y registrarse en el sistema.
+ * Permite a los usuarios autenticarse (login), renovar y cerrar su sesión, y registrarse en el sistema.
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -28,6 +30,7 @@ public class AuthController {
 
     private final AuthenticationManager authManager;
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * Autentica a un usuario con las credenciales proporcionadas.
@@ -41,6 +44,32 @@ public class AuthController {
         return ResponseEntity.ok(userService.login(entity, authManager));
     }
 
+    /**
+     * Renueva la sesión con un refresh token, sin volver a enviar la contraseña.
+     * El refresh token recibido queda usado y se devuelve uno nuevo junto con el token JWT.
+     *
+     * @param entity DTO con el refresh token.
+     * @return ResponseEntity con el nuevo token JWT y el nuevo refresh token.
+     */
+
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, String>> refresh(@Valid @RequestBody RefreshTokenRequestDTO entity) {
+        return ResponseEntity.ok(refreshTokenService.refresh(entity.getRefreshToken()));
+    }
+
+    /**
+     * Cierra la sesión asociada a un refresh token, revocándolo junto con los tokens que se emitieron a partir de él.
+     *
+     * @param entity DTO con el refresh token.
+     * @return ResponseEntity sin contenido.
+     */
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequestDTO entity) {
+        refreshTokenService.revoke(entity.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Registra un nuevo usuario en el sistema.
      *
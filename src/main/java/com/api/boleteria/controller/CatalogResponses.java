@@ -0,0 +1,95 @@
+package com.api.boleteria.controller;
+
+import com.api.boleteria.readmodel.CatalogSnapshot;
+import com.api.boleteria.readmodel.CatalogVersions;
+import com.api.boleteria.readmodel.CatalogVersions.Catalog;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Construye las respuestas de los catálogos a partir de sus copias serializadas.
+ *
+ * Resuelve las solicitudes condicionales (ETag / Last-Modified) antes de obtener la copia
+ * y elige la variante comprimida cuando el cliente acepta gzip.
+ */
+final class CatalogResponses {
+
+    private CatalogResponses() {}
+
+    /**
+     * Responde un catálogo con sus bytes ya serializados.
+     *
+     * @param request  solicitud actual.
+     * @param versions versiones de los catálogos.
+     * @param catalog  catálogo solicitado.
+     * @param snapshot proveedor de la copia serializada vigente.
+     * @return ResponseEntity con el JSON (o su variante gzip), o 304 Not Modified si no hubo cambios.
+     */
+    static ResponseEntity<byte[]> of(WebRequest request, CatalogVersions versions, Catalog catalog,
+                                     Supplier<CatalogSnapshot> snapshot) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = versions.etag(catalog);
+        if (gzip) {
+            // Cada codificación es una representación distinta y necesita su propio ETag fuerte.
+            etag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        if (request.checkNotModified(etag, versions.lastModified(catalog))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        CatalogSnapshot current = snapshot.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(current.gzip());
+        }
+        return response.body(current.json());
+    }
+
+    /**
+     * Indica si el cliente acepta gzip según Accept-Encoding, respetando los valores q:
+     * "gzip;q=0" lo rechaza, y "*" se aplica solo si gzip no aparece de forma explícita.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase();
+            double q = quality(parts);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = q;
+            } else if (name.equals("*")) {
+                any = q;
+            }
+        }
+        Double q = gzip != null ? gzip : any;
+        return q != null && q > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim().toLowerCase();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -4,6 +4,8 @@ import com.api.boleteria.dto.detail.CinemaDetailDTO;
 import com.api.boleteria.dto.list.CinemaListDTO;
 import com.api.boleteria.dto.request.CinemaRequestDTO;
 import com.api.boleteria.model.enums.ScreenType;
+import com.api.boleteria.readmodel.CatalogVersions;
+import com.api.boleteria.readmodel.CatalogVersions.Catalog;
 import com.api.boleteria.service.CinemaService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -34,6 +37,9 @@ public class CinemaController {
     @Autowired
     private CinemaService cinemaService;
 
+    @Autowired
+    private CatalogVersions catalogVersions;
+
 
     //-------------------------------CREATE--------------------------------//
 
@@ -56,13 +62,17 @@ public class CinemaController {
     /**
      * Obtiene la lista de todas las salas.
      *
-     * @return ResponseEntity con una lista de DTOs de salas o un 204 No Content si no hay salas.
+     * Responde con ETag y Last-Modified; si el cliente envía un If-None-Match vigente
+     * se devuelve 304 Not Modified sin consultar la base de datos. El cuerpo se escribe
+     * a partir del listado ya serializado (comprimido con gzip si el cliente lo acepta).
+     *
+     * @param request solicitud actual, usada para evaluar los encabezados condicionales.
+     * @return ResponseEntity con la lista de salas en JSON o 304 si no hubo cambios.
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('CLIENT')")
-    public ResponseEntity<List<CinemaListDTO>> getList(){
-        List<CinemaListDTO> list = cinemaService.findAll();
-        return ResponseEntity.ok(list);
+    public ResponseEntity<byte[]> getList(WebRequest request){
+        return CatalogResponses.of(request, catalogVersions, Catalog.CINEMAS, cinemaService::findAllSnapshot);
     }
 
        /**
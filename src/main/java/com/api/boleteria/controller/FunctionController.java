@@ -2,16 +2,29 @@ package com.api.boleteria.controller;
 
 import com.api.boleteria.dto.detail.FunctionDetailDTO;
 import com.api.boleteria.dto.list.FunctionListDTO;
+import com.api.boleteria.dto.list.NowShowingListDTO;
 import com.api.boleteria.dto.request.FunctionRequestDTO;
+import com.api.boleteria.dto.request.FunctionSearchRequestDTO;
 import com.api.boleteria.model.enums.ScreenType;
+import com.api.boleteria.readmodel.CatalogVersions;
+import com.api.boleteria.readmodel.CatalogVersions.Catalog;
 import com.api.boleteria.service.FunctionService;
+import com.api.boleteria.service.SeatAvailabilityService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -29,6 +42,8 @@ import java.util.List;
 @Validated
 public class FunctionController {
     private final FunctionService functionService;
+    private final SeatAvailabilityService seatAvailabilityService;
+    private final CatalogVersions catalogVersions;
 
 
     //-------------------------------CREATE--------------------------------//
@@ -49,17 +64,55 @@ public class FunctionController {
     //-------------------------------GET--------------------------------//
 
     /**
-     * Obtiene la lista de todas las funciones.
+     * Obtiene una página de las próximas funciones en salas habilitadas.
      *
-     * @return ResponseEntity con una lista de funciones o 204 No Content si no hay funciones.
+     * @param page número de página (comenzando en 0).
+     * @param size cantidad de funciones por página (máximo 100).
+     * @param request solicitud actual, usada para evaluar los encabezados condicionales (ETag / Last-Modified).
+     * @return ResponseEntity con una lista de funciones o 304 Not Modified si no hubo cambios.
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('CLIENT')")
-    public ResponseEntity<List<FunctionListDTO>> getAll() {
-        List<FunctionListDTO> list = functionService.findAll();
+    public ResponseEntity<List<FunctionListDTO>> getAll(
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "La página no puede ser negativa") int page,
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = "El tamaño de página mínimo es 1")
+            @Max(value = 100, message = "El tamaño de página máximo es 100") int size,
+            WebRequest request) {
+        if (request.checkNotModified(catalogVersions.etag(Catalog.FUNCTIONS), catalogVersions.lastModified(Catalog.FUNCTIONS))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        List<FunctionListDTO> list = functionService.findAll(page, size);
         return ResponseEntity.ok(list);
     }
 
+    /**
+     * Obtiene la cartelera: películas con funciones próximas y asientos disponibles,
+     * agrupadas por película y ordenadas por horario.
+     *
+     * @param date día a consultar (formato yyyy-MM-dd); si se omite se devuelven todas las funciones próximas.
+     * @return ResponseEntity con la lista de películas en cartelera y sus funciones.
+     */
+    @GetMapping("/now-showing")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('CLIENT')")
+    public ResponseEntity<List<NowShowingListDTO>> getNowShowing(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(functionService.findNowShowing(date));
+    }
+
+    /**
+     * Busca funciones próximas combinando filtros opcionales en una sola consulta:
+     * rango de fechas (from / to, yyyy-MM-dd, inclusive), movieId, genre, screenType,
+     * atmos, cinemaId y minSeats.
+     *
+     * @param criteria criterios de búsqueda recibidos como parámetros de la URL.
+     * @return ResponseEntity con las funciones encontradas, ordenadas por horario.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('CLIENT')")
+    public ResponseEntity<List<FunctionDetailDTO>> search(@Valid FunctionSearchRequestDTO criteria) {
+        return ResponseEntity.ok(functionService.search(criteria));
+    }
+
     /**
      * Obtiene el detalle de una función específica por su ID.
      *
@@ -72,6 +125,21 @@ public class FunctionController {
         return ResponseEntity.ok(functionService.findById(id));
     }
 
+    /**
+     * Abre un stream de Server-Sent Events con la capacidad disponible de una función.
+     *
+     * Envía primero la capacidad actual y luego un evento "seats" cada vez que cambia,
+     * agrupando las compras simultáneas en un único mensaje por intervalo.
+     *
+     * @param id Identificador de la función.
+     * @return SseEmitter con los cambios de capacidad de la función.
+     */
+    @GetMapping(value = "/{id}/seats", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('CLIENT')")
+    public SseEmitter streamSeats(@PathVariable Long id) {
+        return seatAvailabilityService.subscribe(id);
+    }
+
     /**
      * Obtiene la lista de funciones disponibles para una película específica,
      * considerando únicamente aquellas con capacidad disponible.
@@ -94,13 +162,19 @@ public class FunctionController {
      * <p>
      *
      * @param screenType Tipo de pantalla para filtrar las funciones.
+     * @param atmos filtro opcional por sonido Atmos.
+     * @param genre filtro opcional por género de la película.
+     * @param classification filtro opcional por clasificación de la película.
      * @return ResponseEntity con la lista de funciones que coinciden con el tipo de pantalla,
      * o estado 204 si no hay resultados.
      */
     @GetMapping("/screentype/{screenType}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('CLIENT')")
-    public ResponseEntity<List<FunctionDetailDTO>> getByScreenType(@PathVariable ScreenType screenType) {
-        List<FunctionDetailDTO> functions = functionService.findByScreenType(screenType);
+    public ResponseEntity<List<FunctionDetailDTO>> getByScreenType(@PathVariable ScreenType screenType,
+                                                                   @RequestParam(required = false) Boolean atmos,
+                                                                   @RequestParam(required = false) String genre,
+                                                                   @RequestParam(required = false) String classification) {
+        List<FunctionDetailDTO> functions = functionService.findByScreenType(screenType, atmos, genre, classification);
         return ResponseEntity.ok(functions);
     }
 
@@ -0,0 +1,77 @@
+package com.api.boleteria.controller;
+
+import com.api.boleteria.dto.detail.ImportResultDTO;
+import com.api.boleteria.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * Controlador REST para la importación masiva de catálogos.
+ *
+ * Recibe el archivo como cuerpo de la solicitud, en formato CSV con encabezado
+ * (Content-Type: text/csv) o un objeto JSON por línea (Content-Type: application/x-ndjson).
+ * Los nombres de columna coinciden con los campos de los DTOs de creación.
+ *
+ * Todas las operaciones están restringidas a usuarios con rol ADMIN.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/import")
+public class ImportController {
+
+    private static final String CSV = "text/csv";
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ImportService importService;
+
+
+    //-------------------------------IMPORT--------------------------------//
+
+    /**
+     * Importa películas desde un archivo.
+     *
+     * @param contentType formato del archivo (text/csv o application/x-ndjson).
+     * @param body contenido del archivo, leído de forma incremental.
+     * @return ResponseEntity con el resumen de la importación y los errores por fila.
+     */
+    @PostMapping(value = "/movies", consumes = {CSV, NDJSON})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportResultDTO> importMovies(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                        InputStream body) {
+        return ResponseEntity.ok(importService.importMovies(body, contentType));
+    }
+
+    /**
+     * Importa salas desde un archivo.
+     *
+     * @param contentType formato del archivo (text/csv o application/x-ndjson).
+     * @param body contenido del archivo, leído de forma incremental.
+     * @return ResponseEntity con el resumen de la importación y los errores por fila.
+     */
+    @PostMapping(value = "/cinemas", consumes = {CSV, NDJSON})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportResultDTO> importCinemas(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                         InputStream body) {
+        return ResponseEntity.ok(importService.importCinemas(body, contentType));
+    }
+
+    /**
+     * Importa funciones desde un archivo.
+     *
+     * @param contentType formato del archivo (text/csv o application/x-ndjson).
+     * @param body contenido del archivo, leído de forma incremental.
+     * @return ResponseEntity con el resumen de la importación y los errores por fila.
+     */
+    @PostMapping(value = "/functions", consumes = {CSV, NDJSON})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportResultDTO> importFunctions(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                           InputStream body) {
+        return ResponseEntity.ok(importService.importFunctions(body, contentType));
+    }
+}
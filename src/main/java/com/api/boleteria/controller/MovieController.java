@@ -2,9 +2,16 @@ package com.api.boleteria.controller;
 
 import com.api.boleteria.dto.detail.MovieDetailDTO;
 import com.api.boleteria.dto.list.MovieListDTO;
+import com.api.boleteria.dto.list.MovieSuggestionListDTO;
+import com.api.boleteria.dto.list.TrendingMovieListDTO;
 import com.api.boleteria.dto.request.MovieRequestDTO;
+import com.api.boleteria.readmodel.CatalogVersions;
+import com.api.boleteria.readmodel.CatalogVersions.Catalog;
+import com.api.boleteria.readmodel.TrendingMovies;
 import com.api.boleteria.service.MovieService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -12,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -35,6 +43,9 @@ public class MovieController {
     @Autowired
     private MovieService movieService;
 
+    @Autowired
+    private CatalogVersions catalogVersions;
+
 
     //-------------------------------CREATE--------------------------------//
     /**
@@ -58,13 +69,66 @@ public class MovieController {
     /**
      * Obtiene la lista de todas las películas.
      *
+     * Responde con ETag y Last-Modified; si el cliente envía un If-None-Match vigente
+     * se devuelve 304 Not Modified sin consultar la base de datos. El cuerpo se escribe
+     * a partir del listado ya serializado (comprimido con gzip si el cliente lo acepta).
+     *
+     * @param request solicitud actual, usada para evaluar los encabezados condicionales.
+     * @return ResponseEntity con la lista de películas en JSON o 304 si no hubo cambios.
      */
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('CLIENT')")
-    public ResponseEntity<List<MovieListDTO>> getAll() {
-        List<MovieListDTO> movieList = movieService.findAll();
-        return ResponseEntity.ok(movieList);
+    public ResponseEntity<byte[]> getAll(WebRequest request) {
+        return CatalogResponses.of(request, catalogVersions, Catalog.MOVIES, movieService::findAllSnapshot);
+    }
+
+    /**
+     * Busca películas por texto (título, director, género o sinopsis), ordenadas por relevancia.
+     *
+     * @param q texto a buscar; no distingue mayúsculas ni tildes.
+     * @param limit cantidad máxima de resultados (máximo 50).
+     * @return ResponseEntity con la lista de películas encontradas.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('CLIENT')")
+    public ResponseEntity<List<MovieListDTO>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = "El límite mínimo es 1")
+            @Max(value = 50, message = "El límite máximo es 50") int limit) {
+        return ResponseEntity.ok(movieService.search(q, limit));
+    }
+
+    /**
+     * Sugiere películas para autocompletar a partir de lo que el usuario va escribiendo.
+     *
+     * @param prefix comienzo del título o del director (o de cualquiera de sus palabras).
+     * @param limit cantidad máxima de sugerencias (máximo 20).
+     * @return ResponseEntity con las sugerencias, ordenadas por cantidad de funciones próximas.
+     */
+    @GetMapping("/autocomplete")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('CLIENT')")
+    public ResponseEntity<List<MovieSuggestionListDTO>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") @Min(value = 1, message = "El límite mínimo es 1")
+            @Max(value = 20, message = "El límite máximo es 20") int limit) {
+        return ResponseEntity.ok(movieService.autocomplete(prefix, limit));
+    }
+
+    /**
+     * Obtiene las películas más vendidas en la última hora, día o semana.
+     *
+     * @param window ventana de tiempo: HOUR, DAY o WEEK.
+     * @param limit cantidad máxima de películas (máximo 50).
+     * @return ResponseEntity con el ranking de películas.
+     */
+    @GetMapping("/trending")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('CLIENT')")
+    public ResponseEntity<List<TrendingMovieListDTO>> trending(
+            @RequestParam(defaultValue = "DAY") TrendingMovies.Window window,
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "El límite mínimo es 1")
+            @Max(value = TrendingMovies.MAX_SIZE, message = "El límite máximo es 50") int limit) {
+        return ResponseEntity.ok(movieService.trending(window, limit));
     }
 
     /**
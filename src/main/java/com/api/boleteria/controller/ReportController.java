@@ -0,0 +1,132 @@
+package com.api.boleteria.controller;
+
+import com.api.boleteria.dto.detail.FunctionSalesDetailDTO;
+import com.api.boleteria.dto.list.CinemaDailySalesListDTO;
+import com.api.boleteria.dto.list.MovieDailySalesListDTO;
+import com.api.boleteria.dto.list.SalesGroupListDTO;
+import com.api.boleteria.readmodel.SalesColumnStore.Dimension;
+import com.api.boleteria.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controlador REST para los reportes de ventas.
+ *
+ * Todas las operaciones están restringidas a usuarios con rol ADMIN.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    private final ReportService reportService;
+
+
+    //-------------------------------GET--------------------------------//
+
+    /**
+     * Exporta las ventas de un rango de días como CSV (un renglón por ticket, con su función,
+     * película, sala y usuario). La respuesta se escribe a medida que se leen las filas.
+     *
+     * @param from primer día incluido (formato yyyy-MM-dd).
+     * @param to último día incluido (formato yyyy-MM-dd).
+     * @param gzip true para descargar el archivo comprimido (.csv.gz).
+     * @return ResponseEntity con el archivo CSV como descarga.
+     */
+    @GetMapping("/sales")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = reportService.salesCsv(from, to, gzip);
+
+        String filename = "ventas_" + from + "_" + to + (gzip ? ".csv.gz" : ".csv");
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("text/csv;charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Obtiene las ventas diarias (tickets y recaudación) de cada película en un rango de días.
+     *
+     * @param from primer día incluido (formato yyyy-MM-dd).
+     * @param to último día incluido (formato yyyy-MM-dd).
+     * @return ResponseEntity con las ventas por película y día.
+     */
+    @GetMapping("/movies/daily")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<MovieDailySalesListDTO>> getMovieDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reportService.movieDailySales(from, to));
+    }
+
+    /**
+     * Obtiene las ventas diarias (tickets y recaudación) de cada sala en un rango de días.
+     *
+     * @param from primer día incluido (formato yyyy-MM-dd).
+     * @param to último día incluido (formato yyyy-MM-dd).
+     * @return ResponseEntity con las ventas por sala y día.
+     */
+    @GetMapping("/cinemas/daily")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CinemaDailySalesListDTO>> getCinemaDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reportService.cinemaDailySales(from, to));
+    }
+
+    /**
+     * Agrupa las ventas por una dimensión: HOUR y WEEKDAY (de la función), PURCHASE_HOUR, SCREEN_TYPE,
+     * GENRE, CLASSIFICATION, MOVIE o CINEMA, opcionalmente limitadas a un rango de fechas de compra.
+     *
+     * @param groupBy dimensión de agrupación.
+     * @param from primer día de compra incluido (formato yyyy-MM-dd, opcional).
+     * @param to último día de compra incluido (formato yyyy-MM-dd, opcional).
+     * @return ResponseEntity con los tickets y la recaudación de cada grupo.
+     */
+    @GetMapping("/analytics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SalesGroupListDTO>> getAnalytics(
+            @RequestParam Dimension groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(reportService.analytics(groupBy, from, to));
+    }
+
+    /**
+     * Obtiene las ventas y la ocupación de una función.
+     *
+     * @param functionId ID de la función.
+     * @return ResponseEntity con los tickets vendidos, la recaudación y la ocupación de la función.
+     */
+    @GetMapping("/functions/{functionId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FunctionSalesDetailDTO> getFunctionSales(@PathVariable Long functionId) {
+        return ResponseEntity.ok(reportService.functionSales(functionId));
+    }
+
+    /**
+     * Obtiene las ventas y la ocupación de cada función de una película.
+     *
+     * @param movieId ID de la película.
+     * @return ResponseEntity con las ventas por función, ordenadas por horario.
+     */
+    @GetMapping("/movies/{movieId}/functions")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<FunctionSalesDetailDTO>> getFunctionSalesByMovie(@PathVariable Long movieId) {
+        return ResponseEntity.ok(reportService.functionSalesByMovie(movieId));
+    }
+}
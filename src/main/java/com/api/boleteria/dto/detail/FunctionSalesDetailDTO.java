@@ -0,0 +1,14 @@
+package com.api.boleteria.dto.detail;
+
+import java.time.LocalDateTime;
+
+public record FunctionSalesDetailDTO(
+        Long functionId,
+        Long movieId,
+        Long cinemaId,
+        LocalDateTime showtime,
+        Integer seatCapacity,
+        Integer ticketsSold,
+        Double revenue,
+        Double occupancy
+) {}
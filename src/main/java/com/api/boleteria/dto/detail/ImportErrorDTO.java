@@ -0,0 +1,6 @@
+package com.api.boleteria.dto.detail;
+
+public record ImportErrorDTO(
+        Long row,
+        String message
+) {}
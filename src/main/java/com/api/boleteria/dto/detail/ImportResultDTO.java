@@ -0,0 +1,11 @@
+package com.api.boleteria.dto.detail;
+
+import java.util.List;
+
+public record ImportResultDTO(
+        String type,
+        Long totalRows,
+        Long imported,
+        Long failed,
+        List<ImportErrorDTO> errors
+) {}
@@ -1,5 +1,7 @@
 package com.api.boleteria.dto.detail;
 
+import com.api.boleteria.dto.list.MovieRecommendationListDTO;
+
 import java.util.List;
 
 public record MovieDetailDTO(
@@ -9,5 +11,6 @@ public record MovieDetailDTO(
         String genre,
         String director,
         String rating,
-        String synopsis
+        String synopsis,
+        List<MovieRecommendationListDTO> alsoBought
 ){}
@@ -0,0 +1,7 @@
+package com.api.boleteria.dto.detail;
+
+public record SeatAvailabilityDetailDTO(
+        Long functionId,
+        Integer availableCapacity,
+        boolean open
+) {}
@@ -0,0 +1,10 @@
+package com.api.boleteria.dto.list;
+
+import java.time.LocalDate;
+
+public record MovieDailySalesListDTO(
+        Long movieId,
+        LocalDate date,
+        Integer ticketsSold,
+        Double revenue
+) {}
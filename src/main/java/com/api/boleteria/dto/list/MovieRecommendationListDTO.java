@@ -0,0 +1,7 @@
+package com.api.boleteria.dto.list;
+
+public record MovieRecommendationListDTO(
+        Long id,
+        String title,
+        Integer buyers
+) {}
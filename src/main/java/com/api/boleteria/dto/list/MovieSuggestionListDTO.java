@@ -0,0 +1,8 @@
+package com.api.boleteria.dto.list;
+
+public record MovieSuggestionListDTO(
+        Long id,
+        String title,
+        String director,
+        Integer upcomingFunctions
+) {}
@@ -0,0 +1,11 @@
+package com.api.boleteria.dto.list;
+
+import com.api.boleteria.dto.detail.FunctionDetailDTO;
+
+import java.util.List;
+
+public record NowShowingListDTO(
+        Long movieId,
+        String movieTitle,
+        List<FunctionDetailDTO> functions
+) {}
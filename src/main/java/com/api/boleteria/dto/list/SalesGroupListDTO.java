@@ -0,0 +1,7 @@
+package com.api.boleteria.dto.list;
+
+public record SalesGroupListDTO(
+        String key,
+        Long ticketsSold,
+        Double revenue
+) {}
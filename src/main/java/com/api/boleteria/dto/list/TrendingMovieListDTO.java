@@ -0,0 +1,7 @@
+package com.api.boleteria.dto.list;
+
+public record TrendingMovieListDTO(
+        Long movieId,
+        String title,
+        Long ticketsSold
+) {}
@@ -0,0 +1,35 @@
+package com.api.boleteria.dto.request;
+
+import com.api.boleteria.model.enums.ScreenType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class FunctionSearchRequestDTO {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @Positive(message = "La id de la pelicula debe ser positiva")
+    private Long movieId;
+
+    private String genre;
+
+    private ScreenType screenType;
+
+    private Boolean atmos;
+
+    @Positive(message = "La id del cinema debe ser positiva")
+    private Long cinemaId;
+
+    @Min(value = 1, message = "La cantidad mínima de asientos libres es 1")
+    private Integer minSeats = 1;
+}
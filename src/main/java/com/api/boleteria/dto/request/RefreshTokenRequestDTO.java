@@ -0,0 +1,14 @@
+package com.api.boleteria.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenRequestDTO {
+
+    @NotBlank(message = "El refresh token es obligatorio")
+    private String refreshToken;
+
+}
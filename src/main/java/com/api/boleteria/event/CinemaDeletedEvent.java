@@ -0,0 +1,8 @@
+package com.api.boleteria.event;
+
+/**
+ * Evento publicado cuando se elimina una sala (y, en cascada, sus funciones).
+ *
+ * @param cinemaId ID de la sala eliminada.
+ */
+public record CinemaDeletedEvent(Long cinemaId) {}
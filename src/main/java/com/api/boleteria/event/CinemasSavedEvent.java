@@ -0,0 +1,13 @@
+package com.api.boleteria.event;
+
+import com.api.boleteria.model.Cinema;
+
+import java.util.List;
+
+/**
+ * Evento publicado cuando se crean o actualizan salas.
+ *
+ * @param cinemas salas guardadas.
+ * @param created true si las salas son nuevas; false si se trata de una actualización.
+ */
+public record CinemasSavedEvent(List<Cinema> cinemas, boolean created) {}
@@ -0,0 +1,8 @@
+package com.api.boleteria.event;
+
+/**
+ * Evento publicado cuando se elimina una función.
+ *
+ * @param functionId ID de la función eliminada.
+ */
+public record FunctionDeletedEvent(Long functionId) {}
@@ -0,0 +1,12 @@
+package com.api.boleteria.event;
+
+import com.api.boleteria.model.Function;
+
+import java.util.List;
+
+/**
+ * Evento publicado cuando se crean o actualizan funciones.
+ *
+ * @param functions funciones guardadas, con su sala y película cargadas.
+ */
+public record FunctionsSavedEvent(List<Function> functions) {}
@@ -0,0 +1,8 @@
+package com.api.boleteria.event;
+
+/**
+ * Evento publicado cuando se elimina una película (y, en cascada, sus funciones).
+ *
+ * @param movieId ID de la película eliminada.
+ */
+public record MovieDeletedEvent(Long movieId) {}
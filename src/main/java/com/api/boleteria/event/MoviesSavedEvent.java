@@ -0,0 +1,13 @@
+package com.api.boleteria.event;
+
+import com.api.boleteria.model.Movie;
+
+import java.util.List;
+
+/**
+ * Evento publicado cuando se crean o actualizan películas.
+ *
+ * @param movies películas guardadas.
+ * @param created true si las películas son nuevas; false si se trata de una actualización.
+ */
+public record MoviesSavedEvent(List<Movie> movies, boolean created) {}
@@ -0,0 +1,33 @@
+package com.api.boleteria.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Evento publicado cuando un usuario compra tickets para una función.
+ *
+ * @param userId            ID del usuario comprador.
+ * @param functionId        ID de la función.
+ * @param movieId           ID de la película proyectada.
+ * @param cinemaId          ID de la sala.
+ * @param quantity          cantidad de tickets comprados.
+ * @param totalAmount       monto total cobrado.
+ * @param remainingCapacity capacidad disponible de la función luego de la compra.
+ * @param purchaseDateTime  fecha y hora de la compra.
+ * @param showtime          fecha y hora de la función.
+ * @param seatCapacity      capacidad total de la sala.
+ * @param ticketIds         IDs de los tickets creados, uno por ticket comprado.
+ */
+public record TicketsPurchasedEvent(
+        Long userId,
+        Long functionId,
+        Long movieId,
+        Long cinemaId,
+        int quantity,
+        double totalAmount,
+        int remainingCapacity,
+        LocalDateTime purchaseDateTime,
+        LocalDateTime showtime,
+        int seatCapacity,
+        List<Long> ticketIds
+) {}
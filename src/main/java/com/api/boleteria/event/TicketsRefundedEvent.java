@@ -0,0 +1,23 @@
+package com.api.boleteria.event;
+
+import java.time.LocalDate;
+
+/**
+ * Evento publicado cuando se reintegran tickets comprados (por ejemplo, al eliminar una función).
+ * Se publica un evento por cada día de compra de los tickets reintegrados.
+ *
+ * @param functionId   ID de la función.
+ * @param movieId      ID de la película proyectada.
+ * @param cinemaId     ID de la sala.
+ * @param purchaseDate día en que se compraron los tickets.
+ * @param quantity     cantidad de tickets reintegrados.
+ * @param totalAmount  monto total reintegrado.
+ */
+public record TicketsRefundedEvent(
+        Long functionId,
+        Long movieId,
+        Long cinemaId,
+        LocalDate purchaseDate,
+        int quantity,
+        double totalAmount
+) {}
@@ -115,6 +115,17 @@ public class GlobalExceptionHandler {
                 .body("Credenciales incorrectas. Verifique su nombre de usuario y contraseña.");
     }
 
+    /**
+     * Maneja excepciones cuando el refresh token es inválido, expiró o ya fue usado.
+     *
+     * @param ex Excepción capturada de tipo InvalidRefreshTokenException.
+     * @return ResponseEntity con el mensaje de error y estado 401 (UNAUTHORIZED).
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<String> handleInvalidRefreshTokenException(InvalidRefreshTokenException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ex.getMessage());
+    }
+
     /**
      * Maneja excepciones cuando un parámetro recibido en la URL (por ejemplo, vía @RequestParam o @PathVariable)
      * no puede convertirse al tipo esperado.
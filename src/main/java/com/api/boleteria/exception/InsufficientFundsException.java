@@ -0,0 +1,11 @@
+package com.api.boleteria.exception;
+
+/**
+ * Excepción lanzada cuando la tarjeta del usuario no tiene saldo suficiente para la compra.
+ * Se responde igual que BadRequestException, pero permite distinguir el resultado en las métricas.
+ */
+public class InsufficientFundsException extends BadRequestException {
+    public InsufficientFundsException(String message) {
+        super(message);
+    }
+}
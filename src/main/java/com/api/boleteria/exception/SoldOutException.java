@@ -0,0 +1,11 @@
+package com.api.boleteria.exception;
+
+/**
+ * Excepción lanzada cuando una función no tiene entradas suficientes para la compra solicitada.
+ * Se responde igual que BadRequestException, pero permite distinguir el resultado en las métricas.
+ */
+public class SoldOutException extends BadRequestException {
+    public SoldOutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,36 @@
+package com.api.boleteria.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Ventas acumuladas de una sala en un día (según la fecha de compra).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "cinema_daily_sales",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cinema_daily_sales", columnNames = {"cinema_id", "sales_date"}))
+public class CinemaDailySales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cinema_id", nullable = false)
+    private Long cinemaId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private Integer ticketsSold;
+
+    @Column(nullable = false)
+    private Double revenue;
+}
@@ -16,7 +16,7 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "functions")
+@Table(name = "functions", indexes = @Index(name = "idx_functions_showtime", columnList = "showtime"))
 public class Function {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
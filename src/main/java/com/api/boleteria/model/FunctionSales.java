@@ -0,0 +1,41 @@
+package com.api.boleteria.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ventas acumuladas de una función, con la capacidad de la sala para calcular la ocupación.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "function_sales")
+public class FunctionSales {
+
+    @Id
+    @Column(name = "function_id")
+    private Long functionId;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(name = "cinema_id", nullable = false)
+    private Long cinemaId;
+
+    @Column(nullable = false)
+    private LocalDateTime showtime;
+
+    @Column(nullable = false)
+    private Integer seatCapacity;
+
+    @Column(nullable = false)
+    private Integer ticketsSold;
+
+    @Column(nullable = false)
+    private Double revenue;
+}
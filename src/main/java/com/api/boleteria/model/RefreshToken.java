@@ -0,0 +1,49 @@
+package com.api.boleteria.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Token de renovación (refresh token) emitido al iniciar sesión.
+ *
+ * Solo se guarda el hash SHA-256 del token. Cada renovación marca el token como usado y emite otro de la
+ * misma familia; si se presenta un token ya usado, se revoca la familia entera.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "family"),
+        @Index(name = "idx_refresh_tokens_user", columnList = "user_id")
+})
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 43)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** Identifica todos los tokens que provienen del mismo inicio de sesión. */
+    @Column(nullable = false, length = 36)
+    private String family;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /** true si el token ya se usó para renovar o fue revocado. */
+    @Column(nullable = false)
+    private Boolean revoked;
+}
@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", indexes = @Index(name = "idx_tickets_purchase_date_time", columnList = "purchaseDateTime"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
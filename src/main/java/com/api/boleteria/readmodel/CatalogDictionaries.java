@@ -0,0 +1,21 @@
+package com.api.boleteria.readmodel;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Diccionarios compartidos de los valores de texto del catálogo de películas.
+ */
+@Component
+public class CatalogDictionaries {
+
+    private final TermDictionary genres = new TermDictionary();
+    private final TermDictionary classifications = new TermDictionary();
+
+    public TermDictionary genres() {
+        return genres;
+    }
+
+    public TermDictionary classifications() {
+        return classifications;
+    }
+}
@@ -0,0 +1,11 @@
+package com.api.boleteria.readmodel;
+
+/**
+ * Catálogo serializado e inmutable, listo para escribirse directamente en la respuesta.
+ *
+ * @param version versión del catálogo con la que se generó.
+ * @param json    contenido JSON codificado en UTF-8.
+ * @param gzip    el mismo contenido comprimido con gzip.
+ * @param empty   true si el catálogo no tenía elementos al generarse.
+ */
+public record CatalogSnapshot(long version, byte[] json, byte[] gzip, boolean empty) {}
@@ -0,0 +1,76 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.readmodel.CatalogVersions.Catalog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Mantiene una copia serializada (JSON y JSON comprimido) de cada catálogo.
+ *
+ * La copia se invalida cuando cambia la versión del catálogo y se vuelve a generar una única vez
+ * en la siguiente lectura; mientras tanto todas las lecturas reutilizan los mismos bytes,
+ * sin mapear entidades ni serializar por solicitud.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshots {
+
+    private final CatalogVersions catalogVersions;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Catalog, CatalogSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Obtiene la copia vigente de un catálogo, generándola si el catálogo cambió desde la última vez.
+     *
+     * @param catalog catálogo solicitado.
+     * @param loader  función que obtiene los elementos del catálogo cuando hace falta regenerarlo.
+     * @return CatalogSnapshot con el contenido serializado.
+     */
+    public CatalogSnapshot get(Catalog catalog, Supplier<List<?>> loader) {
+        CatalogSnapshot current = snapshots.get(catalog);
+        if (current != null && current.version() == catalogVersions.version(catalog)) {
+            return current;
+        }
+
+        synchronized (snapshots) {
+            long version = catalogVersions.version(catalog);
+            current = snapshots.get(catalog);
+            if (current == null || current.version() != version) {
+                current = build(version, loader.get());
+                snapshots.put(catalog, current);
+            }
+            return current;
+        }
+    }
+
+    private CatalogSnapshot build(long version, List<?> items) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(items);
+            return new CatalogSnapshot(version, json, gzip(json), items.isEmpty());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el catálogo.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,124 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.event.*;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contadores de versión por catálogo (películas, salas y funciones).
+ *
+ * Cada escritura confirmada incrementa la versión del catálogo afectado, lo que permite generar
+ * ETags fuertes y fechas de última modificación sin consultar la base de datos.
+ * El instante de arranque forma parte del ETag para que un reinicio nunca reutilice una versión anterior.
+ */
+@Component
+public class CatalogVersions {
+
+    public enum Catalog {
+        MOVIES,
+        CINEMAS,
+        /** El listado de funciones depende también de la hora actual (solo muestra funciones próximas). */
+        FUNCTIONS
+    }
+
+    private final String startup = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Catalog, AtomicLong> versions = new EnumMap<>(Catalog.class);
+    private final Map<Catalog, AtomicLong> lastModified = new EnumMap<>(Catalog.class);
+
+    public CatalogVersions() {
+        long now = System.currentTimeMillis();
+        for (Catalog catalog : Catalog.values()) {
+            versions.put(catalog, new AtomicLong());
+            lastModified.put(catalog, new AtomicLong(now));
+        }
+    }
+
+
+    //-------------------------------FIND--------------------------------//
+
+    /**
+     * Obtiene la versión actual de un catálogo.
+     *
+     * @param catalog catálogo a consultar.
+     * @return número de versión, que aumenta con cada escritura.
+     */
+    public long version(Catalog catalog) {
+        return versions.get(catalog).get();
+    }
+
+    /**
+     * Genera el ETag fuerte de un catálogo. Para las funciones incluye además el minuto actual,
+     * ya que el listado cambia a medida que las funciones pasan.
+     *
+     * @param catalog catálogo a consultar.
+     * @return ETag entre comillas.
+     */
+    public String etag(Catalog catalog) {
+        String etag = catalog.name().toLowerCase() + "-" + startup + "-" + version(catalog);
+        if (catalog == Catalog.FUNCTIONS) {
+            etag += "-" + System.currentTimeMillis() / 60_000;
+        }
+        return "\"" + etag + "\"";
+    }
+
+    /**
+     * Obtiene la fecha de última modificación de un catálogo en milisegundos.
+     *
+     * @param catalog catálogo a consultar.
+     * @return instante de la última escritura (o del comienzo del minuto actual para las funciones).
+     */
+    public long lastModified(Catalog catalog) {
+        long modified = lastModified.get(catalog).get();
+        if (catalog == Catalog.FUNCTIONS) {
+            modified = Math.max(modified, System.currentTimeMillis() / 60_000 * 60_000);
+        }
+        return modified / 1000 * 1000;
+    }
+
+
+    //-------------------------------EVENTS--------------------------------//
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MoviesSavedEvent event) {
+        bump(Catalog.MOVIES);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MovieDeletedEvent event) {
+        bump(Catalog.MOVIES);
+        bump(Catalog.FUNCTIONS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CinemasSavedEvent event) {
+        bump(Catalog.CINEMAS);
+        if (!event.created()) {
+            bump(Catalog.FUNCTIONS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CinemaDeletedEvent event) {
+        bump(Catalog.CINEMAS);
+        bump(Catalog.FUNCTIONS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(FunctionsSavedEvent event) {
+        bump(Catalog.FUNCTIONS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(FunctionDeletedEvent event) {
+        bump(Catalog.FUNCTIONS);
+    }
+
+    private void bump(Catalog catalog) {
+        versions.get(catalog).incrementAndGet();
+        lastModified.get(catalog).set(System.currentTimeMillis());
+    }
+}
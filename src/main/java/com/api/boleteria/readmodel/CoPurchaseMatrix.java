@@ -0,0 +1,256 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.event.MovieDeletedEvent;
+import com.api.boleteria.event.TicketsPurchasedEvent;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Matriz dispersa de co-compras entre películas ("quienes vieron X también compraron Y").
+ *
+ * Para cada usuario se guarda el conjunto de películas para las que compró tickets, y para cada
+ * película una fila LongIntHashMap con la cantidad de usuarios que compraron también cada una de
+ * las demás. Una compra de una película nueva para el usuario suma uno en las dos filas de cada par.
+ * Como aplicar dos veces la misma compra no cambia el resultado, las compras recibidas durante una
+ * carga completa se vuelven a aplicar sin riesgo de contarlas doble.
+ *
+ * Las devoluciones por baja de funciones no descuentan pares, y las películas eliminadas solo se marcan: se
+ * descartan al consultar y la recarga programada las quita de la matriz junto con esa diferencia.
+ */
+@Component
+@RequiredArgsConstructor
+public class CoPurchaseMatrix {
+
+    private static final Logger log = LoggerFactory.getLogger(CoPurchaseMatrix.class);
+
+    private static final String LOAD_QUERY = """
+            SELECT t.user_id, f.movie_id
+            FROM tickets t
+            JOIN functions f ON f.id = t.function_id
+            WHERE t.user_id IS NOT NULL
+            """;
+
+    private static final long[] NO_MOVIES = new long[0];
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.reports.fetch-size:1000}")
+    private int fetchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Matriz vigente; se reemplaza completa al terminar una recarga. */
+    private Matrix matrix = new Matrix();
+
+    /** Compras y bajas recibidas mientras se ejecuta una carga completa, aplicadas al terminar. */
+    private List<TicketsPurchasedEvent> pendingDuringLoad;
+    private List<Long> deletionsDuringLoad;
+
+    /**
+     * Película recomendada.
+     *
+     * @param movieId ID de la película.
+     * @param buyers  cantidad de usuarios que compraron ambas películas.
+     */
+    public record Recommendation(long movieId, int buyers) {}
+
+
+    //-------------------------------LOAD--------------------------------//
+
+    /**
+     * Inicia la carga completa en un hilo propio al iniciar la aplicación y en cada recarga programada,
+     * para no ocupar durante la carga el único hilo del planificador.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.recommendations.reload-cron:0 45 4 * * *}")
+    public void loadInBackground() {
+        Thread loader = new Thread(this::reload, "co-purchase-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Vuelve a construir la matriz desde la tabla de tickets y la reemplaza de una sola vez.
+     */
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringLoad != null) {
+                return;
+            }
+            pendingDuringLoad = new ArrayList<>();
+            deletionsDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            Matrix loaded = new Matrix();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        LOAD_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (ResultSet rs) -> {
+                loaded.purchase(rs.getLong(1), rs.getLong(2));
+            });
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringLoad.forEach(event -> loaded.purchase(event.userId(), event.movieId()));
+                deletionsDuringLoad.forEach(loaded::removeMovie);
+                matrix = loaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Matriz de co-compras cargada: {} usuarios, {} películas en {} ms",
+                    loaded.users.size(), loaded.rows.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("No se pudo cargar la matriz de co-compras.", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingDuringLoad = null;
+                deletionsDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+
+    //-------------------------------EVENTS--------------------------------//
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TicketsPurchasedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(event);
+            }
+            matrix.purchase(event.userId(), event.movieId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MovieDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (deletionsDuringLoad != null) {
+                deletionsDuringLoad.add(event.movieId());
+            }
+            matrix.removeMovie(event.movieId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    //-------------------------------FIND--------------------------------//
+
+    /**
+     * Obtiene las películas que más compraron los usuarios que compraron una película dada.
+     *
+     * @param movieId ID de la película.
+     * @param limit   cantidad máxima de recomendaciones.
+     * @return recomendaciones de mayor a menor cantidad de compradores en común.
+     */
+    public List<Recommendation> alsoBought(long movieId, int limit) {
+        PriorityQueue<Recommendation> heap = new PriorityQueue<>(
+                Comparator.comparingInt(Recommendation::buyers)
+                        .thenComparing(Comparator.comparingLong(Recommendation::movieId).reversed()));
+
+        lock.readLock().lock();
+        try {
+            Matrix current = matrix;
+            LongIntHashMap row = current.rows.get(movieId);
+            if (row == null || limit <= 0 || current.isDeleted(movieId)) {
+                return List.of();
+            }
+            row.forEach((other, buyers) -> {
+                if (current.isDeleted(other)) {
+                    return;
+                }
+                if (heap.size() < limit) {
+                    heap.add(new Recommendation(other, buyers));
+                } else if (buyers > heap.peek().buyers()
+                        || (buyers == heap.peek().buyers() && other < heap.peek().movieId())) {
+                    heap.poll();
+                    heap.add(new Recommendation(other, buyers));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Recommendation> result = new ArrayList<>(heap);
+        result.sort(heap.comparator().reversed());
+        return result;
+    }
+
+
+    //-------------------------------MATRIX--------------------------------//
+
+    /**
+     * Conjuntos de películas por usuario y filas de co-compras por película, en mapas de claves long sin encapsular.
+     * Las películas eliminadas se marcan sin recorrer la matriz; sus pares quedan hasta la próxima recarga.
+     */
+    private static final class Matrix {
+        private final LongObjectHashMap<long[]> users = new LongObjectHashMap<>();
+        private final LongObjectHashMap<LongIntHashMap> rows = new LongObjectHashMap<>();
+        private final LongIntHashMap deletedMovies = new LongIntHashMap();
+
+        boolean isDeleted(long movieId) {
+            return deletedMovies.containsKey(movieId);
+        }
+
+        void purchase(long userId, long movieId) {
+            long[] movies = users.getOrDefault(userId, NO_MOVIES);
+            for (long movie : movies) {
+                if (movie == movieId) {
+                    return;
+                }
+            }
+
+            LongIntHashMap row = rows.computeIfAbsent(movieId, id -> new LongIntHashMap());
+            for (long other : movies) {
+                if (isDeleted(other)) {
+                    continue;
+                }
+                row.addTo(other, 1);
+                rows.computeIfAbsent(other, id -> new LongIntHashMap()).addTo(movieId, 1);
+            }
+
+            long[] updated = Arrays.copyOf(movies, movies.length + 1);
+            updated[movies.length] = movieId;
+            users.put(userId, updated);
+        }
+
+        void removeMovie(long movieId) {
+            if (!isDeleted(movieId)) {
+                deletedMovies.addTo(movieId, 1);
+            }
+            rows.remove(movieId);
+        }
+    }
+}
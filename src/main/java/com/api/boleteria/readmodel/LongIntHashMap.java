@@ -0,0 +1,195 @@
+package com.api.boleteria.readmodel;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de claves long a valores int con direccionamiento abierto y sondeo lineal, sin objetos por entrada.
+ *
+ * Pensado para contadores dispersos: los valores ausentes se leen como cero y una entrada que
+ * llega a cero se elimina. No es seguro para uso concurrente; la sincronización queda a cargo de quien lo usa.
+ */
+public final class LongIntHashMap {
+
+    /** Marca de casillero libre; no puede usarse como clave. */
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int resizeAt;
+
+    public LongIntHashMap() {
+        this(4);
+    }
+
+    /**
+     * @param expected cantidad de entradas esperada.
+     */
+    public LongIntHashMap(int expected) {
+        allocate(Math.max(4, Integer.highestOneBit(Math.max(1, (int) (expected / LOAD_FACTOR)) - 1) << 1));
+    }
+
+
+    //-------------------------------FIND--------------------------------//
+
+    /**
+     * @param key clave a buscar.
+     * @return valor asociado o cero si la clave no existe.
+     */
+    public int get(long key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Recorre todas las entradas en un orden no especificado.
+     *
+     * @param consumer acción a ejecutar con cada clave y valor.
+     */
+    public void forEach(LongIntConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Acción sobre una entrada del mapa.
+     */
+    @FunctionalInterface
+    public interface LongIntConsumer {
+        void accept(long key, int value);
+    }
+
+
+    //-------------------------------UPDATE--------------------------------//
+
+    /**
+     * Suma un valor al asociado a una clave, creándola si no existe y eliminándola si el resultado es cero.
+     *
+     * @param key clave a modificar.
+     * @param delta valor a sumar (puede ser negativo).
+     * @return nuevo valor asociado.
+     * @throws IllegalArgumentException si la clave es Long.MIN_VALUE.
+     */
+    public int addTo(long key, int delta) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("La clave " + key + " no es válida.");
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                int value = values[slot] + delta;
+                if (value == 0) {
+                    removeSlot(slot);
+                } else {
+                    values[slot] = value;
+                }
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (delta == 0) {
+            return 0;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    /**
+     * @param key clave a eliminar.
+     * @return valor que tenía asociado o cero si no existía.
+     */
+    public int remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return 0;
+        }
+        int value = values[slot];
+        removeSlot(slot);
+        return value;
+    }
+
+
+    //-------------------------------INTERNAL--------------------------------//
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Elimina un casillero desplazando hacia atrás las entradas siguientes de la misma secuencia de sondeo.
+     */
+    private void removeSlot(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Dispersa la clave (hash multiplicativo de Fibonacci) para elegir su casillero inicial.
+     */
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
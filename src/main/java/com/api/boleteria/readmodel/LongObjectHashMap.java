@@ -0,0 +1,221 @@
+package com.api.boleteria.readmodel;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * Mapa de claves long a objetos con direccionamiento abierto y sondeo lineal, sin encapsular las claves.
+ *
+ * Usa el mismo esquema que LongIntHashMap (incluida la eliminación por desplazamiento hacia atrás),
+ * por lo que los valores null no se admiten. No es seguro para uso concurrente; la sincronización
+ * queda a cargo de quien lo usa.
+ *
+ * @param <V> tipo de los valores.
+ */
+public final class LongObjectHashMap<V> {
+
+    /** Marca de casillero libre; no puede usarse como clave. */
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int resizeAt;
+
+    public LongObjectHashMap() {
+        allocate(16);
+    }
+
+
+    //-------------------------------FIND--------------------------------//
+
+    /**
+     * @param key clave a buscar.
+     * @return valor asociado o null si la clave no existe.
+     */
+    public V get(long key) {
+        int slot = find(key);
+        return slot < 0 ? null : value(slot);
+    }
+
+    /**
+     * @param key clave a buscar.
+     * @param defaultValue valor a devolver si la clave no existe.
+     * @return valor asociado o el valor por defecto.
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : value(slot);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Recorre todas las entradas en un orden no especificado.
+     *
+     * @param consumer acción a ejecutar con cada clave y valor.
+     */
+    public void forEach(LongObjectConsumer<? super V> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], value(i));
+            }
+        }
+    }
+
+    /**
+     * Acción sobre una entrada del mapa.
+     */
+    @FunctionalInterface
+    public interface LongObjectConsumer<V> {
+        void accept(long key, V value);
+    }
+
+
+    //-------------------------------UPDATE--------------------------------//
+
+    /**
+     * Asocia un valor a una clave, reemplazando el anterior si existía.
+     *
+     * @param key clave a modificar.
+     * @param value valor a asociar (no null).
+     * @return valor anterior o null si la clave no existía.
+     * @throws IllegalArgumentException si la clave es Long.MIN_VALUE o el valor es null.
+     */
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("El valor no puede ser nulo.");
+        }
+        int slot = slotFor(key);
+        if (keys[slot] == key) {
+            V previous = value(slot);
+            values[slot] = value;
+            return previous;
+        }
+        insert(slot, key, value);
+        return null;
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave, creándolo con la función dada si no existe.
+     *
+     * @param key clave a buscar.
+     * @param factory función que crea el valor a partir de la clave (no puede devolver null).
+     * @return valor existente o creado.
+     * @throws IllegalArgumentException si la clave es Long.MIN_VALUE.
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> factory) {
+        int slot = slotFor(key);
+        if (keys[slot] == key) {
+            return value(slot);
+        }
+        V value = factory.apply(key);
+        insert(slot, key, value);
+        return value;
+    }
+
+    /**
+     * @param key clave a eliminar.
+     * @return valor que tenía asociado o null si no existía.
+     */
+    public V remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        V value = value(slot);
+        removeSlot(slot);
+        return value;
+    }
+
+
+    //-------------------------------INTERNAL--------------------------------//
+
+    @SuppressWarnings("unchecked")
+    private V value(int slot) {
+        return (V) values[slot];
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = LongIntHashMap.mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Casillero de la clave si existe, o el casillero libre donde se insertaría.
+     */
+    private int slotFor(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("La clave " + key + " no es válida.");
+        }
+        int mask = keys.length - 1;
+        int slot = LongIntHashMap.mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insert(int slot, long key, V value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Elimina un casillero desplazando hacia atrás las entradas siguientes de la misma secuencia de sondeo.
+     */
+    private void removeSlot(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = LongIntHashMap.mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        values[gap] = null;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = LongIntHashMap.mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new Object[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+}
@@ -0,0 +1,171 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.dto.list.MovieSuggestionListDTO;
+import com.api.boleteria.event.MovieDeletedEvent;
+import com.api.boleteria.event.MoviesSavedEvent;
+import com.api.boleteria.model.Movie;
+import com.api.boleteria.repository.IMovieRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Índice de prefijos en memoria para autocompletar títulos y directores de películas.
+ *
+ * Guarda un arreglo ordenado de claves normalizadas (el título, el director y cada palabra
+ * a partir de la cual pueden empezar a escribirse) y resuelve un prefijo con una búsqueda binaria.
+ * El arreglo es inmutable: cada alta, modificación o baja de películas genera uno nuevo y lo
+ * reemplaza de una sola vez, por lo que las lecturas nunca se bloquean ni ven un índice a medio armar.
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieAutocompleteIndex {
+
+    /** Orden de las sugerencias: más funciones próximas primero, luego por título e ID. */
+    private static final Comparator<MovieSuggestionListDTO> RANKING = Comparator
+            .comparing(MovieSuggestionListDTO::upcomingFunctions).reversed()
+            .thenComparing(MovieSuggestionListDTO::title)
+            .thenComparing(MovieSuggestionListDTO::id);
+
+    private final IMovieRepository movieRepo;
+    private final NowShowingReadModel nowShowing;
+
+    private final Map<Long, Suggestion> movies = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new Suggestion[0]);
+
+    private record Suggestion(Long id, String title, String director) {}
+
+    /** Claves ordenadas y, en la misma posición, la película a la que pertenece cada clave. */
+    private record Snapshot(String[] keys, Suggestion[] owners) {}
+
+
+    //-------------------------------LOAD--------------------------------//
+
+    /**
+     * Construye el índice con todas las películas al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        movieRepo.findAll().forEach(this::putMovie);
+        rebuild();
+    }
+
+
+    //-------------------------------EVENTS--------------------------------//
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void on(MoviesSavedEvent event) {
+        event.movies().forEach(this::putMovie);
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void on(MovieDeletedEvent event) {
+        if (movies.remove(event.movieId()) != null) {
+            rebuild();
+        }
+    }
+
+
+    //-------------------------------FIND--------------------------------//
+
+    /**
+     * Obtiene las películas cuyo título o director comienza (en alguna de sus palabras) con el prefijo dado.
+     *
+     * @param prefix texto escrito por el usuario; no distingue mayúsculas ni tildes.
+     * @param limit  cantidad máxima de sugerencias.
+     * @return sugerencias ordenadas por cantidad de funciones próximas y luego por título.
+     */
+    public List<MovieSuggestionListDTO> suggest(String prefix, int limit) {
+        String key = TextNormalizer.fold(prefix).strip();
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        String[] keys = current.keys();
+        int from = lowerBound(keys, key);
+
+        // Se recorre todo el rango del prefijo conservando en un heap acotado las mejores "limit" películas;
+        // la cantidad de funciones próximas cambia sin reconstruir el índice, por eso se evalúa en cada consulta.
+        PriorityQueue<MovieSuggestionListDTO> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        Set<Long> seen = new HashSet<>();
+        for (int i = from; i < keys.length && keys[i].startsWith(key); i++) {
+            Suggestion owner = current.owners()[i];
+            if (!seen.add(owner.id())) {
+                continue;
+            }
+            best.add(new MovieSuggestionListDTO(owner.id(), owner.title(), owner.director(), nowShowing.upcomingCount(owner.id())));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<MovieSuggestionListDTO> result = new ArrayList<>(best);
+        result.sort(RANKING);
+        return result;
+    }
+
+
+    //-------------------------------UPDATE--------------------------------//
+
+    private void putMovie(Movie movie) {
+        movies.put(movie.getId(), new Suggestion(movie.getId(), movie.getTitle(), movie.getDirector()));
+    }
+
+    private void rebuild() {
+        List<Map.Entry<String, Suggestion>> entries = new ArrayList<>();
+        for (Suggestion movie : movies.values()) {
+            Set<String> keys = new HashSet<>();
+            addKeys(keys, movie.title());
+            addKeys(keys, movie.director());
+            keys.forEach(k -> entries.add(Map.entry(k, movie)));
+        }
+        entries.sort(Map.Entry.comparingByKey());
+
+        String[] keys = new String[entries.size()];
+        Suggestion[] owners = new Suggestion[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = entries.get(i).getKey();
+            owners[i] = entries.get(i).getValue();
+        }
+        snapshot = new Snapshot(keys, owners);
+    }
+
+    /**
+     * Primera posición cuya clave es mayor o igual a la buscada (puede haber claves repetidas).
+     */
+    private static int lowerBound(String[] keys, String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Agrega el texto completo y cada sufijo que comienza en una palabra ("el padrino" → "el padrino", "padrino").
+     */
+    private static void addKeys(Set<String> keys, String text) {
+        String folded = TextNormalizer.fold(text).strip();
+        if (folded.isEmpty()) {
+            return;
+        }
+        keys.add(folded);
+        for (int i = 1; i < folded.length(); i++) {
+            if (!Character.isLetterOrDigit(folded.charAt(i - 1)) && Character.isLetterOrDigit(folded.charAt(i))) {
+                keys.add(folded.substring(i));
+            }
+        }
+    }
+}
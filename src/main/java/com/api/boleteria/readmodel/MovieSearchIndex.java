@@ -0,0 +1,199 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.dto.list.MovieListDTO;
+import com.api.boleteria.event.MovieDeletedEvent;
+import com.api.boleteria.event.MoviesSavedEvent;
+import com.api.boleteria.model.Movie;
+import com.api.boleteria.repository.IMovieRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice invertido en memoria para la búsqueda de películas por texto.
+ *
+ * Indexa título, director, género y sinopsis con distinto peso, sin tildes ni mayúsculas,
+ * y ordena los resultados por relevancia (peso del campo × rareza del término).
+ * Se carga al iniciar la aplicación y se mantiene con los eventos de películas, por lo que
+ * las búsquedas nunca consultan la base de datos.
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieSearchIndex {
+
+    private static final int TITLE_WEIGHT = 8;
+    private static final int DIRECTOR_WEIGHT = 4;
+    private static final int GENRE_WEIGHT = 2;
+    private static final int SYNOPSIS_WEIGHT = 1;
+
+    private final IMovieRepository movieRepo;
+    private final CatalogDictionaries dictionaries;
+
+    /** término → (ID de película → puntaje del término en esa película). */
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    /** código de género → IDs de las películas de ese género. */
+    private final Map<Integer, Set<Long>> byGenre = new ConcurrentHashMap<>();
+
+    private record Document(MovieListDTO movie, Set<String> terms, int genre) {}
+
+
+    //-------------------------------LOAD--------------------------------//
+
+    /**
+     * Indexa todas las películas al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        movieRepo.findAll().forEach(this::index);
+    }
+
+
+    //-------------------------------EVENTS--------------------------------//
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MoviesSavedEvent event) {
+        event.movies().forEach(this::index);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MovieDeletedEvent event) {
+        remove(event.movieId());
+    }
+
+
+    //-------------------------------FIND--------------------------------//
+
+    /**
+     * Busca películas que contengan todas las palabras de la consulta.
+     *
+     * @param query texto a buscar; se ignoran tildes, mayúsculas y palabras vacías.
+     * @param limit cantidad máxima de resultados.
+     * @return películas encontradas, de mayor a menor relevancia.
+     */
+    public List<MovieListDTO> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextNormalizer.tokens(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = null;
+        for (String term : terms) {
+            Map<Long, Integer> matches = postings.get(term);
+            if (matches == null || matches.isEmpty()) {
+                return List.of();
+            }
+            double idf = Math.log(1 + (double) documents.size() / matches.size());
+
+            Map<Long, Double> next = new HashMap<>();
+            for (Map.Entry<Long, Integer> match : matches.entrySet()) {
+                if (scores == null || scores.containsKey(match.getKey())) {
+                    double previous = scores == null ? 0 : scores.get(match.getKey());
+                    next.put(match.getKey(), previous + match.getValue() * idf);
+                }
+            }
+            scores = next;
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .map(e -> Map.entry(documents.get(e.getKey()), e.getValue()))
+                .filter(e -> e.getKey() != null)
+                .sorted(Map.Entry.<Document, Double>comparingByValue().reversed()
+                        .thenComparing(e -> e.getKey().movie().title()))
+                .limit(limit)
+                .map(e -> e.getKey().movie())
+                .toList();
+    }
+
+
+    /**
+     * Obtiene los datos resumidos de una película indexada.
+     *
+     * @param movieId ID de la película.
+     * @return la película, si existe.
+     */
+    public Optional<MovieListDTO> find(Long movieId) {
+        return Optional.ofNullable(documents.get(movieId)).map(Document::movie);
+    }
+
+    /**
+     * Obtiene las películas de un género, sin distinguir mayúsculas ni tildes.
+     *
+     * @param genre género a buscar.
+     * @return películas del género, ordenadas por título.
+     */
+    public List<MovieListDTO> findByGenre(String genre) {
+        int code = dictionaries.genres().find(genre);
+        Set<Long> ids = code == TermDictionary.UNKNOWN ? null : byGenre.get(code);
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .map(Document::movie)
+                .sorted(Comparator.comparing(MovieListDTO::title))
+                .toList();
+    }
+
+
+    //-------------------------------UPDATE--------------------------------//
+
+    private synchronized void index(Movie movie) {
+        remove(movie.getId());
+
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, movie.getTitle(), TITLE_WEIGHT);
+        addTerms(weights, movie.getDirector(), DIRECTOR_WEIGHT);
+        addTerms(weights, movie.getMovieGenre(), GENRE_WEIGHT);
+        addTerms(weights, movie.getSynopsis(), SYNOPSIS_WEIGHT);
+
+        MovieListDTO dto = new MovieListDTO(
+                movie.getId(),
+                movie.getTitle(),
+                movie.getDuration(),
+                movie.getMovieGenre(),
+                movie.getDirector()
+        );
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(movie.getId(), weight));
+        int genre = dictionaries.genres().code(movie.getMovieGenre());
+        dictionaries.classifications().code(movie.getClassification());
+        documents.put(movie.getId(), new Document(dto, Set.copyOf(weights.keySet()), genre));
+        byGenre.computeIfAbsent(genre, g -> ConcurrentHashMap.newKeySet()).add(movie.getId());
+    }
+
+    private synchronized void remove(Long movieId) {
+        Document document = documents.remove(movieId);
+        if (document == null) {
+            return;
+        }
+        Set<Long> genreMovies = byGenre.get(document.genre());
+        if (genreMovies != null) {
+            genreMovies.remove(movieId);
+        }
+        for (String term : document.terms()) {
+            Map<Long, Integer> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(movieId);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        for (String term : TextNormalizer.tokens(text)) {
+            weights.merge(term, weight, Integer::sum);
+        }
+    }
+}
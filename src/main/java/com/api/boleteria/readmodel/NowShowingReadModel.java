@@ -0,0 +1,414 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.event.*;
+import com.api.boleteria.model.Cinema;
+import com.api.boleteria.model.Function;
+import com.api.boleteria.model.Movie;
+import com.api.boleteria.model.enums.ScreenType;
+import com.api.boleteria.repository.IFunctionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Modelo de lectura en memoria con las próximas funciones de salas habilitadas ("cartelera").
+ *
+ * Se carga una vez al iniciar la aplicación y luego se mantiene de forma incremental
+ * a partir de los eventos publicados por los servicios, aplicados después del commit.
+ * Las lecturas no bloquean y no acceden a la base de datos.
+ *
+ * Además de los índices por película, sala y horario, cada función ocupa una posición ("slot")
+ * en un conjunto de mapas de bits por tipo de pantalla, Atmos, género y clasificación, de modo que
+ * los filtros combinados se resuelven con operaciones AND entre bitsets.
+ */
+@Component
+@RequiredArgsConstructor
+public class NowShowingReadModel {
+
+    private final IFunctionRepository functionRepo;
+    private final CatalogDictionaries dictionaries;
+
+    private final Map<Long, ShowtimeEntry> byFunction = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<ShowtimeEntry>> byMovie = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> byCinema = new ConcurrentHashMap<>();
+    private final NavigableSet<ShowtimeEntry> byShowtime = new ConcurrentSkipListSet<>(ShowtimeEntry.BY_SHOWTIME);
+    private final Map<Long, Integer> upcomingByMovie = new ConcurrentHashMap<>();
+
+    private final Map<Long, Integer> slotByFunction = new HashMap<>();
+    private final List<ShowtimeEntry> slots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet occupied = new BitSet();
+    private final Map<ScreenType, BitSet> byScreenType = new EnumMap<>(ScreenType.class);
+    private final BitSet atmos = new BitSet();
+    private final Map<Integer, BitSet> byGenre = new HashMap<>();
+    private final Map<Integer, BitSet> byClassification = new HashMap<>();
+
+
+    //-------------------------------LOAD--------------------------------//
+
+    /**
+     * Carga las próximas funciones de salas habilitadas al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        functionRepo.findByShowtimeAfterAndCinema_EnabledTrue(LocalDateTime.now())
+                .forEach(this::put);
+    }
+
+    /**
+     * Quita periódicamente las funciones cuyo horario ya pasó.
+     */
+    @Scheduled(fixedRate = 60_000)
+    public void evictPastShowtimes() {
+        for (ShowtimeEntry entry : byShowtime.headSet(ShowtimeEntry.bound(LocalDateTime.now()))) {
+            remove(entry.functionId());
+        }
+    }
+
+
+    //-------------------------------EVENTS--------------------------------//
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(FunctionsSavedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Function function : event.functions()) {
+            remove(function.getId());
+            if (function.getShowtime().isAfter(now) && Boolean.TRUE.equals(function.getCinema().getEnabled())) {
+                put(function);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(FunctionDeletedEvent event) {
+        remove(event.functionId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TicketsPurchasedEvent event) {
+        adjustCapacity(event.functionId(), -event.quantity());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CinemasSavedEvent event) {
+        if (event.created()) {
+            return;
+        }
+        for (Cinema cinema : event.cinemas()) {
+            removeCinema(cinema.getId());
+            if (Boolean.TRUE.equals(cinema.getEnabled())) {
+                functionRepo.findByCinemaIdAndShowtimeAfter(cinema.getId(), LocalDateTime.now())
+                        .forEach(this::put);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CinemaDeletedEvent event) {
+        removeCinema(event.cinemaId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MoviesSavedEvent event) {
+        if (event.created()) {
+            return;
+        }
+        for (Movie movie : event.movies()) {
+            updateMovie(movie);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MovieDeletedEvent event) {
+        removeMovie(event.movieId());
+    }
+
+
+    //-------------------------------FIND--------------------------------//
+
+    /**
+     * Obtiene una función próxima por su ID.
+     *
+     * @param functionId ID de la función.
+     * @return la entrada de la función, si está en cartelera.
+     */
+    public Optional<ShowtimeEntry> find(Long functionId) {
+        return Optional.ofNullable(byFunction.get(functionId));
+    }
+
+    /**
+     * Obtiene la cantidad de funciones próximas de una película, tengan o no asientos disponibles.
+     *
+     * @param movieId ID de la película.
+     * @return cantidad de funciones en cartelera (0 si no tiene).
+     */
+    public int upcomingCount(Long movieId) {
+        return upcomingByMovie.getOrDefault(movieId, 0);
+    }
+
+    /**
+     * Obtiene las funciones con asientos disponibles agrupadas por película, en orden de horario.
+     *
+     * @param date día a consultar; si es null se devuelven todas las funciones próximas.
+     * @return mapa película → funciones con asientos disponibles, ordenado por la primera función de cada película.
+     */
+    public Map<Long, List<ShowtimeEntry>> nowShowing(LocalDate date) {
+        LocalDateTime now = LocalDateTime.now();
+        NavigableSet<ShowtimeEntry> range = date == null
+                ? byShowtime.tailSet(ShowtimeEntry.bound(now), false)
+                : byShowtime.subSet(ShowtimeEntry.bound(date.atStartOfDay()), true,
+                                    ShowtimeEntry.bound(date.plusDays(1).atStartOfDay()), false);
+
+        Map<Long, List<ShowtimeEntry>> result = new LinkedHashMap<>();
+        for (ShowtimeEntry entry : range) {
+            if (entry.availableCapacity() > 0 && entry.showtime().isAfter(now)) {
+                result.computeIfAbsent(entry.movieId(), id -> new ArrayList<>()).add(entry);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Obtiene las funciones próximas con asientos disponibles que cumplen todos los filtros indicados.
+     *
+     * Los filtros se combinan con AND sobre los mapas de bits; los parámetros nulos no filtran.
+     * Un género o clasificación desconocidos no tienen funciones.
+     *
+     * @param screenType tipo de pantalla.
+     * @param atmos true para salas con Atmos, false para salas sin Atmos.
+     * @param genre género de la película (sin distinguir mayúsculas ni tildes).
+     * @param classification clasificación de la película (sin distinguir mayúsculas ni tildes).
+     * @return funciones encontradas, ordenadas por horario.
+     */
+    public List<ShowtimeEntry> filter(ScreenType screenType, Boolean atmos, String genre, String classification) {
+        List<ShowtimeEntry> matches = new ArrayList<>();
+        synchronized (this) {
+            BitSet result = bitmap(screenType, atmos, genre, classification);
+            for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                matches.add(slots.get(slot));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return matches.stream()
+                .filter(e -> e.availableCapacity() > 0 && e.showtime().isAfter(now))
+                .sorted(ShowtimeEntry.BY_SHOWTIME)
+                .toList();
+    }
+
+    /**
+     * Busca funciones próximas que cumplan todos los criterios de la consulta.
+     *
+     * Antes de recorrer, elige como punto de partida el índice más selectivo disponible
+     * (funciones de la película, de la sala, el mapa de bits combinado o el rango de horarios)
+     * y aplica el resto de los criterios en una sola pasada sobre esos candidatos.
+     *
+     * @param query criterios de búsqueda.
+     * @return funciones que cumplen la búsqueda, ordenadas por horario.
+     */
+    public List<ShowtimeEntry> search(ShowtimeQuery query) {
+        int genreCode = query.genre() == null ? TermDictionary.UNKNOWN : dictionaries.genres().find(query.genre());
+        if (query.genre() != null && genreCode == TermDictionary.UNKNOWN) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Collection<ShowtimeEntry> candidates = candidates(query, now);
+
+        List<ShowtimeEntry> result = new ArrayList<>();
+        for (ShowtimeEntry entry : candidates) {
+            if (query.matches(entry, genreCode, now)) {
+                result.add(entry);
+            }
+        }
+        result.sort(ShowtimeEntry.BY_SHOWTIME);
+        return result;
+    }
+
+    /**
+     * Elige el conjunto de candidatos más chico entre los índices aplicables a la consulta.
+     */
+    private Collection<ShowtimeEntry> candidates(ShowtimeQuery query, LocalDateTime now) {
+        LocalDateTime from = query.from() == null || query.from().isBefore(now) ? now : query.from();
+        if (query.to() != null && !query.to().isAfter(from)) {
+            return List.of();
+        }
+        Collection<ShowtimeEntry> best = query.to() == null
+                ? byShowtime.tailSet(ShowtimeEntry.bound(from), true)
+                : byShowtime.subSet(ShowtimeEntry.bound(from), true, ShowtimeEntry.bound(query.to()), false);
+        int bestSize = query.to() == null && query.from() == null ? byFunction.size() : Integer.MAX_VALUE;
+
+        if (query.movieId() != null) {
+            int size = upcomingCount(query.movieId());
+            if (size < bestSize) {
+                NavigableSet<ShowtimeEntry> movieEntries = byMovie.get(query.movieId());
+                best = movieEntries == null ? List.of() : movieEntries;
+                bestSize = size;
+            }
+        }
+
+        if (query.cinemaId() != null) {
+            Set<Long> cinemaFunctions = byCinema.getOrDefault(query.cinemaId(), Set.of());
+            if (cinemaFunctions.size() < bestSize) {
+                best = cinemaFunctions.stream().map(byFunction::get).filter(Objects::nonNull).toList();
+                bestSize = cinemaFunctions.size();
+            }
+        }
+
+        if (query.screenType() != null || query.atmos() != null || query.genre() != null) {
+            synchronized (this) {
+                BitSet bits = bitmap(query.screenType(), query.atmos(), query.genre(), null);
+                if (bits.cardinality() < bestSize) {
+                    List<ShowtimeEntry> entries = new ArrayList<>(bits.cardinality());
+                    for (int slot = bits.nextSetBit(0); slot >= 0; slot = bits.nextSetBit(slot + 1)) {
+                        entries.add(slots.get(slot));
+                    }
+                    best = entries;
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Combina los mapas de bits de los filtros indicados. Debe llamarse con el bloqueo tomado.
+     */
+    private BitSet bitmap(ScreenType screenType, Boolean atmos, String genre, String classification) {
+        BitSet result = (BitSet) occupied.clone();
+        if (screenType != null) {
+            result.and(byScreenType.getOrDefault(screenType, new BitSet()));
+        }
+        if (atmos != null) {
+            if (atmos) {
+                result.and(this.atmos);
+            } else {
+                result.andNot(this.atmos);
+            }
+        }
+        if (genre != null) {
+            result.and(codeBitmap(byGenre, dictionaries.genres().find(genre)));
+        }
+        if (classification != null) {
+            result.and(codeBitmap(byClassification, dictionaries.classifications().find(classification)));
+        }
+        return result;
+    }
+
+    private static BitSet codeBitmap(Map<Integer, BitSet> index, int code) {
+        BitSet bits = code == TermDictionary.UNKNOWN ? null : index.get(code);
+        return bits == null ? new BitSet() : bits;
+    }
+
+
+    //-------------------------------UPDATE--------------------------------//
+
+    private synchronized void put(Function function) {
+        remove(function.getId());
+        ShowtimeEntry entry = ShowtimeEntry.from(function,
+                dictionaries.genres().code(function.getMovie().getMovieGenre()),
+                dictionaries.classifications().code(function.getMovie().getClassification()));
+        byFunction.put(entry.functionId(), entry);
+        byMovie.computeIfAbsent(entry.movieId(), id -> new ConcurrentSkipListSet<>(ShowtimeEntry.BY_SHOWTIME)).add(entry);
+        byCinema.computeIfAbsent(entry.cinemaId(), id -> ConcurrentHashMap.newKeySet()).add(entry.functionId());
+        byShowtime.add(entry);
+        upcomingByMovie.merge(entry.movieId(), 1, Integer::sum);
+
+        int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+        if (slot == slots.size()) {
+            slots.add(entry);
+        } else {
+            slots.set(slot, entry);
+        }
+        slotByFunction.put(entry.functionId(), slot);
+        setBits(slot, entry, true);
+    }
+
+    private synchronized void replace(ShowtimeEntry current, ShowtimeEntry updated) {
+        int slot = slotByFunction.get(updated.functionId());
+        setBits(slot, current, false);
+        slots.set(slot, updated);
+        setBits(slot, updated, true);
+
+        byFunction.put(updated.functionId(), updated);
+        NavigableSet<ShowtimeEntry> movieEntries = byMovie.get(updated.movieId());
+        movieEntries.remove(current);
+        movieEntries.add(updated);
+        byShowtime.remove(current);
+        byShowtime.add(updated);
+    }
+
+    private synchronized void remove(Long functionId) {
+        ShowtimeEntry entry = byFunction.remove(functionId);
+        if (entry == null) {
+            return;
+        }
+        NavigableSet<ShowtimeEntry> movieEntries = byMovie.get(entry.movieId());
+        movieEntries.remove(entry);
+        if (movieEntries.isEmpty()) {
+            byMovie.remove(entry.movieId());
+        }
+        Set<Long> cinemaFunctions = byCinema.get(entry.cinemaId());
+        cinemaFunctions.remove(functionId);
+        if (cinemaFunctions.isEmpty()) {
+            byCinema.remove(entry.cinemaId());
+        }
+        byShowtime.remove(entry);
+        upcomingByMovie.computeIfPresent(entry.movieId(), (id, count) -> count > 1 ? count - 1 : null);
+
+        int slot = slotByFunction.remove(functionId);
+        setBits(slot, entry, false);
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private void setBits(int slot, ShowtimeEntry entry, boolean value) {
+        occupied.set(slot, value);
+        if (entry.screenType() != null) {
+            byScreenType.computeIfAbsent(entry.screenType(), t -> new BitSet()).set(slot, value);
+        }
+        atmos.set(slot, value && Boolean.TRUE.equals(entry.atmos()));
+        byGenre.computeIfAbsent(entry.genre(), g -> new BitSet()).set(slot, value);
+        byClassification.computeIfAbsent(entry.classification(), c -> new BitSet()).set(slot, value);
+    }
+
+    private synchronized void adjustCapacity(Long functionId, int delta) {
+        ShowtimeEntry entry = byFunction.get(functionId);
+        if (entry != null) {
+            replace(entry, entry.withAvailableCapacity(entry.availableCapacity() + delta));
+        }
+    }
+
+    private synchronized void removeCinema(Long cinemaId) {
+        Set<Long> functionIds = byCinema.get(cinemaId);
+        if (functionIds != null) {
+            List.copyOf(functionIds).forEach(this::remove);
+        }
+    }
+
+    private synchronized void removeMovie(Long movieId) {
+        NavigableSet<ShowtimeEntry> entries = byMovie.get(movieId);
+        if (entries != null) {
+            List.copyOf(entries).forEach(e -> remove(e.functionId()));
+        }
+    }
+
+    private synchronized void updateMovie(Movie movie) {
+        NavigableSet<ShowtimeEntry> entries = byMovie.get(movie.getId());
+        if (entries != null) {
+            int genre = dictionaries.genres().code(movie.getMovieGenre());
+            int classification = dictionaries.classifications().code(movie.getClassification());
+            List.copyOf(entries).forEach(e -> replace(e, e.withMovie(movie.getTitle(), genre, classification)));
+        }
+    }
+}
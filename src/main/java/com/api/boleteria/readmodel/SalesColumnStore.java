@@ -0,0 +1,572 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.event.CinemaDeletedEvent;
+import com.api.boleteria.event.FunctionDeletedEvent;
+import com.api.boleteria.event.MovieDeletedEvent;
+import com.api.boleteria.event.TicketsPurchasedEvent;
+import com.api.boleteria.model.enums.ScreenType;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Almacén columnar en memoria con un renglón por ticket vendido, para análisis de ventas ad-hoc.
+ *
+ * Cada atributo se guarda en un arreglo primitivo propio (minutos desde epoch en int[],
+ * códigos de diccionario en short[]/byte[], precio en centavos en long[]), y las agrupaciones se
+ * recorren en paralelo con fork-join, acumulando en arreglos por clave en lugar de mapas.
+ *
+ * Se carga en segundo plano al iniciar, recibe los tickets nuevos a partir de los eventos de compra
+ * y marca como eliminados (sin compactar) los tickets de funciones, películas o salas borradas.
+ * Las bajas recorren una copia publicada sin tomar el bloqueo de las compras, y las que llegan juntas
+ * se aplican en un único recorrido. Una recarga completa programada corrige cualquier diferencia acumulada.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesColumnStore {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesColumnStore.class);
+
+    /** Cantidad de renglones a partir de la cual una agrupación se divide en subtareas. */
+    private static final int SPLIT_THRESHOLD = 1 << 16;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private static final String LOAD_QUERY = """
+            SELECT t.purchase_date_time, t.ticket_price, f.id, f.showtime, f.movie_id, f.cinema_id,
+                   c.screen_type, m.movie_genre, m.classification, t.id
+            FROM tickets t
+            JOIN functions f ON f.id = t.function_id
+            JOIN movies m ON m.id = f.movie_id
+            JOIN cinemas c ON c.id = f.cinema_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogDictionaries dictionaries;
+    private final NowShowingReadModel nowShowing;
+
+    @Value("${app.reports.fetch-size:1000}")
+    private int fetchSize;
+
+    /** Columnas en construcción; solo se modifican con el bloqueo del almacén tomado. */
+    private ColumnBuilder builder = new ColumnBuilder(INITIAL_CAPACITY);
+
+    /** Copia publicada de las columnas; los lectores toman una referencia y trabajan sobre ella. */
+    private volatile Columns columns = builder.snapshot(new BitSet());
+
+    /** Serializa la aplicación de bajas; se toma antes que el bloqueo del almacén, nunca al revés. */
+    private final Object deletionLock = new Object();
+    private final Queue<Function<Columns, IntPredicate>> pendingDeletions = new ConcurrentLinkedQueue<>();
+
+    /** Compras y bajas recibidas mientras se ejecuta una carga completa, aplicadas al terminar. */
+    private List<TicketsPurchasedEvent> pendingDuringLoad;
+    private List<Function<Columns, IntPredicate>> deletionsDuringLoad;
+
+    /**
+     * Dimensiones por las que se pueden agrupar las ventas.
+     */
+    public enum Dimension {
+        /** Hora del día de la función (0 a 23). */
+        HOUR,
+        /** Día de la semana de la función. */
+        WEEKDAY,
+        /** Hora del día de la compra (0 a 23). */
+        PURCHASE_HOUR,
+        SCREEN_TYPE,
+        GENRE,
+        CLASSIFICATION,
+        MOVIE,
+        CINEMA
+    }
+
+    /**
+     * Resultado de una agrupación.
+     *
+     * @param key     valor de la dimensión (hora, día, tipo de pantalla, género, ID de película o sala).
+     * @param tickets cantidad de tickets vendidos.
+     * @param revenue recaudación total.
+     */
+    public record Group(String key, long tickets, double revenue) {}
+
+
+    //-------------------------------LOAD--------------------------------//
+
+    /**
+     * Inicia la carga completa en un hilo propio al iniciar la aplicación y en cada recarga programada,
+     * para no ocupar durante la carga el único hilo del planificador.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.analytics.reload-cron:0 30 4 * * *}")
+    public void loadInBackground() {
+        Thread loader = new Thread(this::reload, "sales-column-store-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Vuelve a construir las columnas desde la base de datos y las reemplaza de una sola vez.
+     *
+     * Las compras confirmadas durante la carga se acumulan y se aplican al final, descartando los
+     * tickets cuyo ID ya leyó la consulta. Las bajas de funciones, películas o salas recibidas
+     * durante la carga se vuelven a aplicar sobre el resultado.
+     */
+    public void reload() {
+        synchronized (this) {
+            if (pendingDuringLoad != null) {
+                return;
+            }
+            pendingDuringLoad = new ArrayList<>();
+            deletionsDuringLoad = new ArrayList<>();
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            ColumnBuilder loaded = new ColumnBuilder(INITIAL_CAPACITY);
+            TicketIds loadedIds = new TicketIds(INITIAL_CAPACITY);
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        LOAD_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (ResultSet rs) -> {
+                String screenType = rs.getString(7);
+                loaded.append(
+                        minute(rs.getTimestamp(1).toLocalDateTime()),
+                        minute(rs.getTimestamp(4).toLocalDateTime()),
+                        rs.getLong(3),
+                        rs.getLong(5),
+                        rs.getLong(6),
+                        screenType == null ? -1 : ScreenType.valueOf(screenType).ordinal(),
+                        dictionaries.genres().code(rs.getString(8)),
+                        dictionaries.classifications().code(rs.getString(9)),
+                        cents(rs.getDouble(2)));
+                loadedIds.add(rs.getLong(10));
+            });
+            loadedIds.sort();
+
+            List<Function<Columns, IntPredicate>> deletions;
+            synchronized (this) {
+                for (TicketsPurchasedEvent event : pendingDuringLoad) {
+                    int missing = (int) event.ticketIds().stream().filter(id -> !loadedIds.contains(id)).count();
+                    appendPurchase(loaded, event, missing);
+                }
+                builder = loaded;
+                columns = loaded.snapshot(new BitSet());
+                deletions = deletionsDuringLoad;
+                deletionsDuringLoad = null;
+            }
+            if (!deletions.isEmpty()) {
+                synchronized (deletionLock) {
+                    applyDeletions(deletions);
+                }
+            }
+            log.info("Almacén de ventas cargado: {} tickets en {} ms", loaded.size, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("No se pudo cargar el almacén de ventas.", e);
+        } finally {
+            synchronized (this) {
+                pendingDuringLoad = null;
+                deletionsDuringLoad = null;
+            }
+        }
+    }
+
+
+    //-------------------------------EVENTS--------------------------------//
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void on(TicketsPurchasedEvent event) {
+        if (pendingDuringLoad != null) {
+            pendingDuringLoad.add(event);
+        }
+        appendPurchase(builder, event, event.quantity());
+        columns = builder.snapshot(columns.deleted());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(FunctionDeletedEvent event) {
+        long functionId = event.functionId();
+        tombstone(c -> row -> c.functionId()[row] == functionId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MovieDeletedEvent event) {
+        long movieId = event.movieId();
+        tombstone(c -> row -> c.movieId()[row] == movieId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CinemaDeletedEvent event) {
+        long cinemaId = event.cinemaId();
+        tombstone(c -> row -> c.cinemaId()[row] == cinemaId);
+    }
+
+
+    //-------------------------------FIND--------------------------------//
+
+    /**
+     * Agrupa los tickets vendidos en un rango de fechas de compra según una dimensión.
+     *
+     * @param dimension dimensión de agrupación.
+     * @param from primer día de compra incluido (null para no limitar).
+     * @param to último día de compra incluido (null para no limitar).
+     * @return grupos con tickets y recaudación; por hora y día de la semana en orden natural,
+     *         en los demás casos de mayor a menor recaudación.
+     */
+    public List<Group> groupBy(Dimension dimension, LocalDate from, LocalDate to) {
+        Columns snapshot = columns;
+        int fromMinute = from == null ? Integer.MIN_VALUE : minute(from.atStartOfDay());
+        int toMinute = to == null ? Integer.MAX_VALUE : minute(to.plusDays(1).atStartOfDay());
+        int keys = snapshot.cardinality(dimension);
+
+        Partial total = ForkJoinPool.commonPool().invoke(
+                new GroupByTask(snapshot, dimension, keys, fromMinute, toMinute, 0, snapshot.size()));
+
+        List<Group> groups = new ArrayList<>();
+        for (int key = 0; key < keys; key++) {
+            if (total.tickets[key] > 0) {
+                groups.add(new Group(label(dimension, key), total.tickets[key], total.cents[key] / 100.0));
+            }
+        }
+        if (dimension != Dimension.HOUR && dimension != Dimension.WEEKDAY && dimension != Dimension.PURCHASE_HOUR) {
+            groups.sort(Comparator.comparingDouble(Group::revenue).reversed());
+        }
+        return groups;
+    }
+
+    /**
+     * Obtiene la cantidad de tickets cargados (incluidos los eliminados aún no compactados).
+     *
+     * @return cantidad de renglones del almacén.
+     */
+    public int size() {
+        return columns.size();
+    }
+
+
+    //-------------------------------UPDATE--------------------------------//
+
+    private void appendPurchase(ColumnBuilder target, TicketsPurchasedEvent event, int tickets) {
+        Optional<ShowtimeEntry> entry = nowShowing.find(event.functionId());
+        int purchase = minute(event.purchaseDateTime());
+        int showtime = minute(event.showtime());
+        int screenType = entry.map(e -> e.screenType() == null ? -1 : e.screenType().ordinal()).orElse(-1);
+        int genre = entry.map(ShowtimeEntry::genre).orElse(TermDictionary.UNKNOWN);
+        int classification = entry.map(ShowtimeEntry::classification).orElse(TermDictionary.UNKNOWN);
+        long price = cents(event.totalAmount() / event.quantity());
+
+        for (int i = 0; i < tickets; i++) {
+            target.append(purchase, showtime, event.functionId(), event.movieId(), event.cinemaId(),
+                    screenType, genre, classification, price);
+        }
+    }
+
+    /**
+     * Encola una baja y aplica, en un solo recorrido, todas las bajas pendientes en ese momento. Si otra baja
+     * en curso ya la aplicó junto con las suyas, no hace nada.
+     */
+    private void tombstone(Function<Columns, IntPredicate> matcher) {
+        synchronized (this) {
+            if (deletionsDuringLoad != null) {
+                deletionsDuringLoad.add(matcher);
+            }
+        }
+        pendingDeletions.add(matcher);
+
+        synchronized (deletionLock) {
+            List<Function<Columns, IntPredicate>> batch = new ArrayList<>();
+            for (Function<Columns, IntPredicate> pending; (pending = pendingDeletions.poll()) != null; ) {
+                batch.add(pending);
+            }
+            if (!batch.isEmpty()) {
+                applyDeletions(batch);
+            }
+        }
+    }
+
+    /**
+     * Marca los renglones que cumplen alguna de las bajas. El recorrido se hace sobre una copia publicada sin
+     * tomar el bloqueo del almacén; con el bloqueo tomado solo se revisan los renglones agregados mientras tanto.
+     * Las compras conservan el mismo BitSet de eliminados, por lo que si cambió es porque una recarga reemplazó
+     * las columnas, y se vuelve a recorrer. Debe llamarse con deletionLock tomado.
+     */
+    private void applyDeletions(List<Function<Columns, IntPredicate>> matchers) {
+        while (true) {
+            Columns snapshot = columns;
+            BitSet deleted = (BitSet) snapshot.deleted().clone();
+            mark(snapshot, matchers, deleted, 0, snapshot.size());
+            synchronized (this) {
+                Columns latest = columns;
+                if (latest.deleted() == snapshot.deleted()) {
+                    mark(latest, matchers, deleted, snapshot.size(), latest.size());
+                    columns = latest.withDeleted(deleted);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void mark(Columns target, List<Function<Columns, IntPredicate>> matchers, BitSet deleted, int from, int to) {
+        IntPredicate[] predicates = matchers.stream().map(matcher -> matcher.apply(target)).toArray(IntPredicate[]::new);
+        for (int row = from; row < to; row++) {
+            for (IntPredicate predicate : predicates) {
+                if (predicate.test(row)) {
+                    deleted.set(row);
+                    break;
+                }
+            }
+        }
+    }
+
+    private String label(Dimension dimension, int key) {
+        return switch (dimension) {
+            case HOUR, PURCHASE_HOUR -> String.valueOf(key);
+            case WEEKDAY -> DayOfWeek.of(key + 1).name();
+            case SCREEN_TYPE -> key == 0 ? "DESCONOCIDO" : ScreenType.values()[key - 1].name();
+            case GENRE -> Objects.requireNonNullElse(dictionaries.genres().label(key - 1), "DESCONOCIDO");
+            case CLASSIFICATION -> Objects.requireNonNullElse(dictionaries.classifications().label(key - 1), "DESCONOCIDO");
+            case MOVIE, CINEMA -> String.valueOf(key);
+        };
+    }
+
+    private static int minute(LocalDateTime dateTime) {
+        return (int) (dateTime.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    private static long cents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+
+    //-------------------------------COLUMNS--------------------------------//
+
+    /**
+     * Arreglos de columnas en crecimiento, con un único escritor. Solo se escribe más allá del
+     * tamaño ya publicado, y al crecer se copian a arreglos nuevos, por lo que una copia publicada
+     * anteriormente sigue viendo exactamente sus renglones.
+     */
+    private static final class ColumnBuilder {
+        int[] purchaseMinute;
+        int[] showtimeMinute;
+        long[] functionId;
+        long[] movieId;
+        long[] cinemaId;
+        byte[] screenType;
+        short[] genre;
+        short[] classification;
+        long[] priceCents;
+        int size;
+        long maxMovieId;
+        long maxCinemaId;
+        int maxGenre = -1;
+        int maxClassification = -1;
+
+        ColumnBuilder(int capacity) {
+            purchaseMinute = new int[capacity];
+            showtimeMinute = new int[capacity];
+            functionId = new long[capacity];
+            movieId = new long[capacity];
+            cinemaId = new long[capacity];
+            screenType = new byte[capacity];
+            genre = new short[capacity];
+            classification = new short[capacity];
+            priceCents = new long[capacity];
+        }
+
+        void append(int purchase, int showtime, long function, long movie, long cinema,
+                    int screen, int genreCode, int classificationCode, long price) {
+            if (size == purchaseMinute.length) {
+                grow();
+            }
+            purchaseMinute[size] = purchase;
+            showtimeMinute[size] = showtime;
+            functionId[size] = function;
+            movieId[size] = movie;
+            cinemaId[size] = cinema;
+            screenType[size] = (byte) screen;
+            genre[size] = (short) genreCode;
+            classification[size] = (short) classificationCode;
+            priceCents[size] = price;
+            size++;
+            maxMovieId = Math.max(maxMovieId, movie);
+            maxCinemaId = Math.max(maxCinemaId, cinema);
+            maxGenre = Math.max(maxGenre, genreCode);
+            maxClassification = Math.max(maxClassification, classificationCode);
+        }
+
+        Columns snapshot(BitSet deleted) {
+            return new Columns(purchaseMinute, showtimeMinute, functionId, movieId, cinemaId, screenType, genre,
+                    classification, priceCents, deleted, size, maxMovieId, maxCinemaId, maxGenre, maxClassification);
+        }
+
+        private void grow() {
+            int capacity = purchaseMinute.length * 2;
+            purchaseMinute = Arrays.copyOf(purchaseMinute, capacity);
+            showtimeMinute = Arrays.copyOf(showtimeMinute, capacity);
+            functionId = Arrays.copyOf(functionId, capacity);
+            movieId = Arrays.copyOf(movieId, capacity);
+            cinemaId = Arrays.copyOf(cinemaId, capacity);
+            screenType = Arrays.copyOf(screenType, capacity);
+            genre = Arrays.copyOf(genre, capacity);
+            classification = Arrays.copyOf(classification, capacity);
+            priceCents = Arrays.copyOf(priceCents, capacity);
+        }
+    }
+
+    /**
+     * IDs de los tickets leídos por una carga completa, ordenados al terminar para buscarlos por bisección.
+     */
+    private static final class TicketIds {
+        long[] ids;
+        int size;
+
+        TicketIds(int capacity) {
+            ids = new long[capacity];
+        }
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void sort() {
+            Arrays.sort(ids, 0, size);
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+
+    /**
+     * Copia inmutable de las columnas con una cantidad fija de renglones y sus renglones eliminados.
+     */
+    private record Columns(int[] purchaseMinute, int[] showtimeMinute, long[] functionId, long[] movieId,
+                           long[] cinemaId, byte[] screenType, short[] genre, short[] classification,
+                           long[] priceCents, BitSet deleted, int size, long maxMovieId, long maxCinemaId,
+                           int maxGenre, int maxClassification) {
+
+        Columns withDeleted(BitSet newDeleted) {
+            return new Columns(purchaseMinute, showtimeMinute, functionId, movieId, cinemaId, screenType, genre,
+                    classification, priceCents, newDeleted, size, maxMovieId, maxCinemaId, maxGenre, maxClassification);
+        }
+
+        int cardinality(Dimension dimension) {
+            return switch (dimension) {
+                case HOUR, PURCHASE_HOUR -> 24;
+                case WEEKDAY -> 7;
+                case SCREEN_TYPE -> ScreenType.values().length + 1;
+                case GENRE -> maxGenre + 2;
+                case CLASSIFICATION -> maxClassification + 2;
+                case MOVIE -> (int) maxMovieId + 1;
+                case CINEMA -> (int) maxCinemaId + 1;
+            };
+        }
+
+        /**
+         * Clave densa (desde 0) de un renglón para la dimensión dada. Los códigos desconocidos (-1) usan la clave 0.
+         */
+        int key(Dimension dimension, int row) {
+            return switch (dimension) {
+                case HOUR -> Math.floorMod(showtimeMinute[row], 1440) / 60;
+                // El 1/1/1970 fue jueves: se desplaza para que 0 sea lunes.
+                case WEEKDAY -> Math.floorMod(Math.floorDiv(showtimeMinute[row], 1440) + 3, 7);
+                case PURCHASE_HOUR -> Math.floorMod(purchaseMinute[row], 1440) / 60;
+                case SCREEN_TYPE -> screenType[row] + 1;
+                case GENRE -> genre[row] + 1;
+                case CLASSIFICATION -> classification[row] + 1;
+                case MOVIE -> (int) movieId[row];
+                case CINEMA -> (int) cinemaId[row];
+            };
+        }
+    }
+
+    /**
+     * Totales parciales por clave de una porción de renglones.
+     */
+    private record Partial(long[] tickets, long[] cents) {
+
+        Partial(int keys) {
+            this(new long[keys], new long[keys]);
+        }
+
+        Partial merge(Partial other) {
+            for (int key = 0; key < tickets.length; key++) {
+                tickets[key] += other.tickets[key];
+                cents[key] += other.cents[key];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Agrupación de un rango de renglones; se divide en dos mitades mientras supere el umbral.
+     */
+    private static final class GroupByTask extends RecursiveTask<Partial> {
+        private final Columns columns;
+        private final Dimension dimension;
+        private final int keys;
+        private final int fromMinute;
+        private final int toMinute;
+        private final int start;
+        private final int end;
+
+        GroupByTask(Columns columns, Dimension dimension, int keys, int fromMinute, int toMinute, int start, int end) {
+            this.columns = columns;
+            this.dimension = dimension;
+            this.keys = keys;
+            this.fromMinute = fromMinute;
+            this.toMinute = toMinute;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (end - start > SPLIT_THRESHOLD) {
+                int middle = (start + end) >>> 1;
+                GroupByTask left = new GroupByTask(columns, dimension, keys, fromMinute, toMinute, start, middle);
+                left.fork();
+                Partial right = new GroupByTask(columns, dimension, keys, fromMinute, toMinute, middle, end).compute();
+                return left.join().merge(right);
+            }
+
+            Partial partial = new Partial(keys);
+            int[] purchase = columns.purchaseMinute();
+            long[] price = columns.priceCents();
+            BitSet deleted = columns.deleted();
+            for (int row = start; row < end; row++) {
+                if (purchase[row] < fromMinute || purchase[row] >= toMinute || deleted.get(row)) {
+                    continue;
+                }
+                int key = columns.key(dimension, row);
+                if (key >= 0 && key < keys) {
+                    partial.tickets[key]++;
+                    partial.cents[key] += price[row];
+                }
+            }
+            return partial;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.model.Function;
+import com.api.boleteria.model.enums.ScreenType;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Copia inmutable y desnormalizada de una función próxima, con los datos de su sala y película
+ * necesarios para responder consultas de cartelera sin acceder a la base de datos.
+ */
+public record ShowtimeEntry(
+        Long functionId,
+        Long movieId,
+        String movieTitle,
+        Long cinemaId,
+        String cinemaName,
+        ScreenType screenType,
+        Boolean atmos,
+        int genre,
+        int classification,
+        LocalDateTime showtime,
+        int availableCapacity
+) {
+
+    /**
+     * Orden por horario y, ante empate, por ID de función.
+     */
+    public static final Comparator<ShowtimeEntry> BY_SHOWTIME = Comparator
+            .comparing(ShowtimeEntry::showtime)
+            .thenComparing(ShowtimeEntry::functionId);
+
+    /**
+     * Crea una entrada a partir de una función con su sala y película cargadas.
+     *
+     * @param function entidad Function.
+     * @param genre código del género de la película.
+     * @param classification código de la clasificación de la película.
+     * @return ShowtimeEntry con los datos de la función.
+     */
+    public static ShowtimeEntry from(Function function, int genre, int classification) {
+        return new ShowtimeEntry(
+                function.getId(),
+                function.getMovie().getId(),
+                function.getMovie().getTitle(),
+                function.getCinema().getId(),
+                function.getCinema().getName(),
+                function.getCinema().getScreenType(),
+                function.getCinema().getAtmos(),
+                genre,
+                classification,
+                function.getShowtime(),
+                function.getAvailableCapacity()
+        );
+    }
+
+    /**
+     * Crea una entrada vacía usada como límite en búsquedas por rango de horario.
+     *
+     * @param showtime horario límite.
+     * @return ShowtimeEntry que se ordena antes que cualquier función con ese horario.
+     */
+    static ShowtimeEntry bound(LocalDateTime showtime) {
+        return new ShowtimeEntry(Long.MIN_VALUE, null, null, null, null, null, null, -1, -1, showtime, 0);
+    }
+
+    public ShowtimeEntry withAvailableCapacity(int capacity) {
+        return new ShowtimeEntry(functionId, movieId, movieTitle, cinemaId, cinemaName,
+                screenType, atmos, genre, classification, showtime, capacity);
+    }
+
+    public ShowtimeEntry withMovie(String title, int genre, int classification) {
+        return new ShowtimeEntry(functionId, movieId, title, cinemaId, cinemaName,
+                screenType, atmos, genre, classification, showtime, availableCapacity);
+    }
+}
@@ -0,0 +1,49 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.model.enums.ScreenType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criterios de búsqueda de funciones próximas. Los criterios nulos no filtran.
+ *
+ * @param from horario mínimo (inclusive).
+ * @param to horario máximo (exclusivo).
+ * @param movieId ID de la película.
+ * @param cinemaId ID de la sala.
+ * @param screenType tipo de pantalla.
+ * @param atmos true para salas con Atmos, false para salas sin Atmos.
+ * @param genre género de la película (sin distinguir mayúsculas ni tildes).
+ * @param minSeats cantidad mínima de asientos disponibles.
+ */
+public record ShowtimeQuery(
+        LocalDateTime from,
+        LocalDateTime to,
+        Long movieId,
+        Long cinemaId,
+        ScreenType screenType,
+        Boolean atmos,
+        String genre,
+        int minSeats
+) {
+
+    /**
+     * Indica si una entrada cumple todos los criterios.
+     *
+     * @param entry función a evaluar.
+     * @param genreCode código del género buscado (ya resuelto en el diccionario).
+     * @param now momento actual; solo se aceptan funciones posteriores.
+     * @return true si la función cumple la búsqueda.
+     */
+    boolean matches(ShowtimeEntry entry, int genreCode, LocalDateTime now) {
+        return entry.showtime().isAfter(now)
+                && (from == null || !entry.showtime().isBefore(from))
+                && (to == null || entry.showtime().isBefore(to))
+                && (movieId == null || movieId.equals(entry.movieId()))
+                && (cinemaId == null || cinemaId.equals(entry.cinemaId()))
+                && (screenType == null || screenType == entry.screenType())
+                && (atmos == null || atmos.equals(Boolean.TRUE.equals(entry.atmos())))
+                && (genre == null || genreCode == entry.genre())
+                && entry.availableCapacity() >= minSeats;
+    }
+}
@@ -0,0 +1,69 @@
+package com.api.boleteria.readmodel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Diccionario de valores de texto repetidos (géneros, clasificaciones) con códigos enteros.
+ *
+ * Dos valores que solo difieren en mayúsculas, tildes o espacios reciben el mismo código,
+ * y se conserva como etiqueta la primera forma registrada. Los valores se registran solo desde los
+ * modelos de lectura, a partir de datos ya confirmados; los datos guardados nunca se reescriben.
+ */
+public final class TermDictionary {
+
+    /** Código devuelto cuando un valor no está registrado. */
+    public static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private final List<String> labels = new CopyOnWriteArrayList<>();
+
+    /**
+     * Obtiene el código de un valor, registrándolo si todavía no existe.
+     *
+     * @param label valor a codificar.
+     * @return código entero del valor, o UNKNOWN si el valor es nulo o vacío.
+     */
+    public int code(String label) {
+        String key = key(label);
+        if (key.isEmpty()) {
+            return UNKNOWN;
+        }
+        Integer code = codes.get(key);
+        if (code != null) {
+            return code;
+        }
+        synchronized (this) {
+            return codes.computeIfAbsent(key, k -> {
+                labels.add(label.strip());
+                return labels.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Obtiene el código de un valor sin registrarlo.
+     *
+     * @param label valor a buscar.
+     * @return código entero del valor, o UNKNOWN si no está registrado.
+     */
+    public int find(String label) {
+        return codes.getOrDefault(key(label), UNKNOWN);
+    }
+
+    /**
+     * Obtiene la etiqueta registrada para un código.
+     *
+     * @param code código del valor.
+     * @return etiqueta original, o null si el código no existe.
+     */
+    public String label(int code) {
+        return code >= 0 && code < labels.size() ? labels.get(code) : null;
+    }
+
+    private static String key(String label) {
+        return TextNormalizer.fold(label).strip().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,58 @@
+package com.api.boleteria.readmodel;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Utilidades para normalizar texto antes de indexarlo o buscarlo.
+ *
+ * Pasa el texto a minúsculas, quita tildes y diéresis ("Acción" → "accion") y lo separa en palabras,
+ * descartando las palabras vacías más comunes del español.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "al", "con", "de", "del", "e", "el", "en", "la", "las", "lo", "los",
+            "o", "para", "por", "que", "se", "su", "un", "una", "y"
+    );
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Normaliza un texto completo: minúsculas y sin marcas diacríticas.
+     *
+     * @param text texto a normalizar (puede ser null).
+     * @return texto normalizado, o cadena vacía si es null.
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Separa un texto en palabras normalizadas, sin palabras vacías.
+     *
+     * @param text texto a separar.
+     * @return lista de palabras en el orden en que aparecen (puede contener repetidas).
+     */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
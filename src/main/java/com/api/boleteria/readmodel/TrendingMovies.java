@@ -0,0 +1,298 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.event.MovieDeletedEvent;
+import com.api.boleteria.event.TicketsPurchasedEvent;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ranking de películas más vendidas en ventanas deslizantes (última hora, último día, última semana).
+ *
+ * Cada película tiene dos anillos de contadores atómicos: uno por minuto (60 posiciones) y otro
+ * por hora (168 posiciones). Las compras suman en el casillero del período actual sin bloqueos;
+ * un casillero de un período anterior se reinicia la primera vez que se vuelve a usar.
+ * El top de cada ventana se recalcula periódicamente con un heap acotado y se publica ya armado,
+ * por lo que la consulta devuelve una lista precalculada sin recorrer contadores ni consultar tickets.
+ *
+ * Al iniciar, los anillos se completan una sola vez en segundo plano con los tickets de la última semana
+ * comprados antes de que el componente empezara a recibir compras; las posteriores llegan por eventos,
+ * por lo que ninguna se cuenta dos veces.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingMovies {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingMovies.class);
+
+    /** Cantidad máxima de películas que se guardan en cada ranking. */
+    public static final int MAX_SIZE = 50;
+
+    private static final int MINUTES = 60;
+    private static final int HOURS = 24 * 7;
+
+    private static final String SEED_QUERY = """
+            SELECT f.movie_id, t.purchase_date_time
+            FROM tickets t
+            JOIN functions f ON f.id = t.function_id
+            WHERE t.purchase_date_time >= ? AND t.purchase_date_time < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.reports.fetch-size:1000}")
+    private int fetchSize;
+
+    /** Momento desde el que las compras se cuentan por eventos; la carga inicial cubre las anteriores. */
+    private final long startedAt = System.currentTimeMillis();
+
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+    private volatile Map<Window, List<Trend>> rankings = emptyRankings();
+
+    /** Películas eliminadas mientras se ejecuta la carga inicial, descartadas al terminar. */
+    private volatile Set<Long> deletionsDuringSeed;
+
+    /**
+     * Ventanas de tiempo disponibles.
+     */
+    public enum Window {
+        HOUR,
+        DAY,
+        WEEK
+    }
+
+    /**
+     * Posición de una película en un ranking.
+     *
+     * @param movieId ID de la película.
+     * @param tickets tickets vendidos en la ventana.
+     */
+    public record Trend(Long movieId, long tickets) {}
+
+
+    //-------------------------------LOAD--------------------------------//
+
+    /**
+     * Inicia en un hilo propio la carga inicial de los contadores al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        Thread loader = new Thread(this::seed, "trending-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Suma en los contadores los tickets de la última semana comprados antes de startedAt y publica los rankings.
+     */
+    public void seed() {
+        deletionsDuringSeed = ConcurrentHashMap.newKeySet();
+        try {
+            long start = System.currentTimeMillis();
+            long from = startedAt - HOURS * 3_600_000L;
+            long[] tickets = new long[1];
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        SEED_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setTimestamp(1, new Timestamp(from));
+                statement.setTimestamp(2, new Timestamp(startedAt));
+                return statement;
+            }, (ResultSet rs) -> {
+                counters.computeIfAbsent(rs.getLong(1), id -> new Counters())
+                        .seed(rs.getTimestamp(2).getTime(), startedAt);
+                tickets[0]++;
+            });
+            deletionsDuringSeed.forEach(counters::remove);
+            refresh();
+            log.info("Rankings de películas cargados: {} tickets de {} películas en {} ms",
+                    tickets[0], counters.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("No se pudieron cargar los rankings de películas.", e);
+        } finally {
+            deletionsDuringSeed = null;
+        }
+    }
+
+
+    //-------------------------------EVENTS--------------------------------//
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TicketsPurchasedEvent event) {
+        counters.computeIfAbsent(event.movieId(), id -> new Counters())
+                .add(System.currentTimeMillis(), event.quantity());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MovieDeletedEvent event) {
+        Set<Long> deletions = deletionsDuringSeed;
+        if (deletions != null) {
+            deletions.add(event.movieId());
+        }
+        counters.remove(event.movieId());
+    }
+
+
+    //-------------------------------FIND--------------------------------//
+
+    /**
+     * Obtiene el ranking precalculado de una ventana.
+     *
+     * @param window ventana de tiempo.
+     * @param limit cantidad máxima de películas (hasta MAX_SIZE).
+     * @return películas de mayor a menor cantidad de tickets vendidos.
+     */
+    public List<Trend> top(Window window, int limit) {
+        List<Trend> ranking = rankings.get(window);
+        return ranking.size() <= limit ? ranking : ranking.subList(0, limit);
+    }
+
+
+    //-------------------------------UPDATE--------------------------------//
+
+    /**
+     * Recalcula los rankings de todas las ventanas.
+     */
+    @Scheduled(fixedRateString = "${app.trending.refresh-ms:5000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        Map<Window, List<Trend>> updated = new EnumMap<>(Window.class);
+        for (Window window : Window.values()) {
+            updated.put(window, rank(window, now));
+        }
+        rankings = updated;
+    }
+
+    private List<Trend> rank(Window window, long now) {
+        PriorityQueue<Trend> heap = new PriorityQueue<>(Comparator.comparingLong(Trend::tickets));
+        for (Map.Entry<Long, Counters> entry : counters.entrySet()) {
+            long tickets = entry.getValue().sum(window, now);
+            if (tickets == 0) {
+                continue;
+            }
+            if (heap.size() < MAX_SIZE) {
+                heap.add(new Trend(entry.getKey(), tickets));
+            } else if (tickets > heap.peek().tickets()) {
+                heap.poll();
+                heap.add(new Trend(entry.getKey(), tickets));
+            }
+        }
+
+        List<Trend> ranking = new ArrayList<>(heap);
+        ranking.sort(Comparator.comparingLong(Trend::tickets).reversed().thenComparing(Trend::movieId));
+        return List.copyOf(ranking);
+    }
+
+    private static Map<Window, List<Trend>> emptyRankings() {
+        Map<Window, List<Trend>> empty = new EnumMap<>(Window.class);
+        for (Window window : Window.values()) {
+            empty.put(window, List.of());
+        }
+        return empty;
+    }
+
+
+    //-------------------------------COUNTERS--------------------------------//
+
+    /**
+     * Anillos de contadores de una película. Cada casillero guarda en un único long el período al que
+     * corresponde (32 bits altos) y la cantidad (32 bits bajos), para reiniciarlo y sumar en el mismo CAS.
+     */
+    private static final class Counters {
+        private final AtomicLongArray minutes = new AtomicLongArray(MINUTES);
+        private final AtomicLongArray hours = new AtomicLongArray(HOURS);
+
+        void add(long nowMillis, int quantity) {
+            long minute = nowMillis / 60_000;
+            long hour = minute / 60;
+            increment(minutes, minute, quantity);
+            increment(hours, hour, quantity);
+        }
+
+        /**
+         * Suma un ticket de la carga inicial. Solo se cargan los períodos que siguen dentro de cada anillo
+         * respecto de startMillis, que ocupan casilleros distintos, por lo que el orden de las filas no importa.
+         */
+        void seed(long purchaseMillis, long startMillis) {
+            long minute = purchaseMillis / 60_000;
+            long hour = minute / 60;
+            long startMinute = startMillis / 60_000;
+            if (minute > startMinute - MINUTES) {
+                seedIncrement(minutes, minute);
+            }
+            if (hour > startMinute / 60 - HOURS) {
+                seedIncrement(hours, hour);
+            }
+        }
+
+        long sum(Window window, long nowMillis) {
+            long minute = nowMillis / 60_000;
+            long hour = minute / 60;
+            return switch (window) {
+                case HOUR -> sum(minutes, minute, MINUTES);
+                case DAY -> sum(hours, hour, 24);
+                case WEEK -> sum(hours, hour, HOURS);
+            };
+        }
+
+        private static void increment(AtomicLongArray cells, long period, int quantity) {
+            int slot = (int) (period % cells.length());
+            long cell;
+            long updated;
+            do {
+                cell = cells.get(slot);
+                long stamp = cell >>> 32;
+                // Un período posterior ya ocupó el casillero: se suma igual en lugar de retrocederlo.
+                updated = stamp < period ? pack(period, quantity) : cell + quantity;
+            } while (!cells.compareAndSet(slot, cell, updated));
+        }
+
+        /**
+         * A diferencia de increment, descarta el ticket si un período posterior ya ocupó el casillero:
+         * ese período quedó fuera de la ventana mientras duraba la carga.
+         */
+        private static void seedIncrement(AtomicLongArray cells, long period) {
+            int slot = (int) (period % cells.length());
+            long cell;
+            long updated;
+            do {
+                cell = cells.get(slot);
+                long stamp = cell >>> 32;
+                if (stamp > period) {
+                    return;
+                }
+                updated = stamp < period ? pack(period, 1) : cell + 1;
+            } while (!cells.compareAndSet(slot, cell, updated));
+        }
+
+        private static long sum(AtomicLongArray cells, long current, int periods) {
+            long total = 0;
+            for (int i = 0; i < periods; i++) {
+                long period = current - i;
+                long cell = cells.get((int) (period % cells.length()));
+                if (cell >>> 32 == period) {
+                    total += (int) cell;
+                }
+            }
+            return total;
+        }
+
+        private static long pack(long period, int count) {
+            return period << 32 | (count & 0xFFFF_FFFFL);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.api.boleteria.repository;
+
+import com.api.boleteria.model.CinemaDailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ICinemaDailySalesRepository extends JpaRepository<CinemaDailySales, Long> {
+    List<CinemaDailySales> findBySalesDateBetweenOrderBySalesDateAscCinemaIdAsc(LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO cinema_daily_sales (cinema_id, sales_date, tickets_sold, revenue)
+            VALUES (:cinemaId, :salesDate, :tickets, :revenue)
+            ON DUPLICATE KEY UPDATE tickets_sold = tickets_sold + :tickets, revenue = revenue + :revenue
+            """, nativeQuery = true)
+    void add(@Param("cinemaId") Long cinemaId, @Param("salesDate") LocalDate salesDate,
+             @Param("tickets") int tickets, @Param("revenue") double revenue);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO cinema_daily_sales (cinema_id, sales_date, tickets_sold, revenue)
+            SELECT f.cinema_id, CAST(t.purchase_date_time AS DATE), COUNT(*), SUM(t.ticket_price)
+            FROM tickets t JOIN functions f ON f.id = t.function_id
+            GROUP BY f.cinema_id, CAST(t.purchase_date_time AS DATE)
+            """, nativeQuery = true)
+    void rebuildFromTickets();
+
+    /**
+     * Resta de las filas por sala y día los tickets de las funciones de una película, agrupados en una sola sentencia.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO cinema_daily_sales (cinema_id, sales_date, tickets_sold, revenue)
+            SELECT f.cinema_id, CAST(t.purchase_date_time AS DATE), -COUNT(*), -SUM(t.ticket_price)
+            FROM tickets t JOIN functions f ON f.id = t.function_id
+            WHERE f.movie_id = :movieId
+            GROUP BY f.cinema_id, CAST(t.purchase_date_time AS DATE)
+            ON DUPLICATE KEY UPDATE tickets_sold = tickets_sold + VALUES(tickets_sold), revenue = revenue + VALUES(revenue)
+            """, nativeQuery = true)
+    void subtractMovie(@Param("movieId") Long movieId);
+
+    @Modifying
+    @Query("DELETE FROM CinemaDailySales s WHERE s.cinemaId = :cinemaId")
+    void deleteByCinemaId(@Param("cinemaId") Long cinemaId);
+}
@@ -5,6 +5,7 @@ import com.api.boleteria.model.enums.ScreenType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,6 +13,10 @@ public interface ICinemaRepository extends JpaRepository<Cinema, Long> {
     List<Cinema> findByScreenType(ScreenType screenType);
     List<Cinema> findByEnabled(boolean enabled);
     List<Cinema> findBySeatCapacityGreaterThan(Integer seatCapacity);
-    boolean existsByName(String name); //
     boolean existsByNameAndIdNot(String name, Long id); //
+    /**
+     * Busca las salas cuyo nombre coincide con alguno de los nombres dados, sin distinguir mayúsculas
+     * por la collation _ci de la columna.
+     */
+    List<Cinema> findAllByNameIn(Collection<String> names);
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.api.boleteria.repository;
 
-import com.api.boleteria.model.enums.ScreenType;
 import com.api.boleteria.model.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,10 +16,15 @@ public interface IFunctionRepository extends JpaRepository<Function, Long> {
     List<Function> findByCinemaId(Long cinemaId);
     List<Function> findByMovieIdAndAvailableCapacityGreaterThanAndShowtimeAfterAndCinema_EnabledTrue(
             Long movieId, int capacity, LocalDateTime showtime);
-    List<Function> findByCinema_ScreenTypeAndAvailableCapacityGreaterThanAndShowtimeAfterAndCinema_EnabledTrue(
-            ScreenType screenType, int capacity, LocalDateTime showtime);
     List<Function> findByCinemaIdAndAvailableCapacityGreaterThanAndShowtimeAfter(
             Long cinemaId, int availableCapacity, LocalDateTime showtime);
+    @EntityGraph(attributePaths = {"cinema", "movie"})
+    List<Function> findByShowtimeAfterAndCinema_EnabledTrue(LocalDateTime showtime);
+    @EntityGraph(attributePaths = {"cinema", "movie"})
+    List<Function> findByCinemaIdAndShowtimeAfter(Long cinemaId, LocalDateTime showtime);
+    @EntityGraph(attributePaths = {"cinema", "movie"})
+    Page<Function> findByCinema_EnabledTrueAndShowtimeAfterOrderByShowtimeAsc(
+            LocalDateTime showtime, Pageable pageable);
 
 
 
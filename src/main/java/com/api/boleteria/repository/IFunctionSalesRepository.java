@@ -0,0 +1,43 @@
+package com.api.boleteria.repository;
+
+import com.api.boleteria.model.FunctionSales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface IFunctionSalesRepository extends JpaRepository<FunctionSales, Long> {
+    List<FunctionSales> findByMovieIdOrderByShowtimeAsc(Long movieId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO function_sales (function_id, movie_id, cinema_id, showtime, seat_capacity, tickets_sold, revenue)
+            VALUES (:functionId, :movieId, :cinemaId, :showtime, :seatCapacity, :tickets, :revenue)
+            ON DUPLICATE KEY UPDATE tickets_sold = tickets_sold + :tickets, revenue = revenue + :revenue
+            """, nativeQuery = true)
+    void add(@Param("functionId") Long functionId, @Param("movieId") Long movieId, @Param("cinemaId") Long cinemaId,
+             @Param("showtime") LocalDateTime showtime, @Param("seatCapacity") int seatCapacity,
+             @Param("tickets") int tickets, @Param("revenue") double revenue);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO function_sales (function_id, movie_id, cinema_id, showtime, seat_capacity, tickets_sold, revenue)
+            SELECT f.id, f.movie_id, f.cinema_id, f.showtime, c.seat_capacity, COUNT(*), SUM(t.ticket_price)
+            FROM tickets t JOIN functions f ON f.id = t.function_id JOIN cinemas c ON c.id = f.cinema_id
+            GROUP BY f.id, f.movie_id, f.cinema_id, f.showtime, c.seat_capacity
+            """, nativeQuery = true)
+    void rebuildFromTickets();
+
+    @Modifying
+    @Query("DELETE FROM FunctionSales s WHERE s.movieId = :movieId")
+    void deleteByMovieId(@Param("movieId") Long movieId);
+
+    @Modifying
+    @Query("DELETE FROM FunctionSales s WHERE s.cinemaId = :cinemaId")
+    void deleteByCinemaId(@Param("cinemaId") Long cinemaId);
+}
@@ -0,0 +1,52 @@
+package com.api.boleteria.repository;
+
+import com.api.boleteria.model.MovieDailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface IMovieDailySalesRepository extends JpaRepository<MovieDailySales, Long> {
+    List<MovieDailySales> findBySalesDateBetweenOrderBySalesDateAscMovieIdAsc(LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO movie_daily_sales (movie_id, sales_date, tickets_sold, revenue)
+            VALUES (:movieId, :salesDate, :tickets, :revenue)
+            ON DUPLICATE KEY UPDATE tickets_sold = tickets_sold + :tickets, revenue = revenue + :revenue
+            """, nativeQuery = true)
+    void add(@Param("movieId") Long movieId, @Param("salesDate") LocalDate salesDate,
+             @Param("tickets") int tickets, @Param("revenue") double revenue);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO movie_daily_sales (movie_id, sales_date, tickets_sold, revenue)
+            SELECT f.movie_id, CAST(t.purchase_date_time AS DATE), COUNT(*), SUM(t.ticket_price)
+            FROM tickets t JOIN functions f ON f.id = t.function_id
+            GROUP BY f.movie_id, CAST(t.purchase_date_time AS DATE)
+            """, nativeQuery = true)
+    void rebuildFromTickets();
+
+    /**
+     * Resta de las filas por película y día los tickets de las funciones de una sala, agrupados en una sola sentencia.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO movie_daily_sales (movie_id, sales_date, tickets_sold, revenue)
+            SELECT f.movie_id, CAST(t.purchase_date_time AS DATE), -COUNT(*), -SUM(t.ticket_price)
+            FROM tickets t JOIN functions f ON f.id = t.function_id
+            WHERE f.cinema_id = :cinemaId
+            GROUP BY f.movie_id, CAST(t.purchase_date_time AS DATE)
+            ON DUPLICATE KEY UPDATE tickets_sold = tickets_sold + VALUES(tickets_sold), revenue = revenue + VALUES(revenue)
+            """, nativeQuery = true)
+    void subtractCinema(@Param("cinemaId") Long cinemaId);
+
+    @Modifying
+    @Query("DELETE FROM MovieDailySales s WHERE s.movieId = :movieId")
+    void deleteByMovieId(@Param("movieId") Long movieId);
+}
@@ -4,11 +4,15 @@ import com.api.boleteria.model.Movie;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface IMovieRepository extends JpaRepository<Movie,Long> {
-    boolean existsByTitle(String title);
-    List<Movie> findByMovieGenre(String genre);
     boolean existsByTitleAndIdNot(String title, Long id);
+    /**
+     * Busca las películas cuyo título coincide con alguno de los títulos dados. La collation _ci de la columna
+     * hace que la comparación no distinga mayúsculas y permite resolverla con el índice único del título.
+     */
+    List<Movie> findAllByTitleIn(Collection<String> titles);
 }
@@ -9,6 +9,7 @@ import com.api.boleteria.model.User; //
 import com.api.boleteria.repository.ICardRepository; //
 import com.api.boleteria.repository.IUserRepository;
 import com.api.boleteria.validators.CardValidator; //
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -64,9 +65,8 @@ public class CardService {
      * @return Saldo actual.
      */
     public Double getBalance() {
-        User user = userService.findAuthenticatedUser();
-        Card card = cardRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new NotFoundException("El usuario: " + user.getUsername() + " no tiene una tarjeta registrada."));
+        Card card = cardRepository.findByUserId(userService.findAuthenticatedUserId())
+                .orElseThrow(() -> new NotFoundException("El usuario: " + userService.findAuthenticatedUsername() + " no tiene una tarjeta registrada."));
         return card.getBalance();
     }
 
@@ -76,10 +76,8 @@ public class CardService {
      * @return DTO con el detalle de la tarjeta.
      */
     public CardDetailDTO findFromAuthenticatedUser() {
-        User user = userService.findAuthenticatedUser();
-
-        Card card = cardRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new NotFoundException("No se encontró tarjeta para el usuario: " + user.getUsername()));
+        Card card = cardRepository.findByUserId(userService.findAuthenticatedUserId())
+                .orElseThrow(() -> new NotFoundException("No se encontró tarjeta para el usuario: " + userService.findAuthenticatedUsername()));
 
         return mapToDetailDTO(card);
     }
@@ -94,13 +92,12 @@ public class CardService {
      * @param amount Monto a recargar.
      * @return DTO con el detalle actualizado.
      */
+    @Timed(value = "boleteria.cards.recharge", description = "Recarga de saldo", histogram = true)
     public CardDetailDTO rechargeBalance(Double amount) {
        CardValidator.validateRechargeAmount(amount);
 
-        User user = userService.findAuthenticatedUser();
-
-        Card card = cardRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new NotFoundException("El usuario: " + user.getUsername() + " no tiene una tarjeta registrada."));
+        Card card = cardRepository.findByUserId(userService.findAuthenticatedUserId())
+                .orElseThrow(() -> new NotFoundException("El usuario: " + userService.findAuthenticatedUsername() + " no tiene una tarjeta registrada."));
 
        CardValidator.validateTotalBalance(card.getBalance(), amount);
 
@@ -155,7 +152,7 @@ public class CardService {
         card.setCvv(dto.getCvv());
         card.setCardType(dto.getCardType());
         card.setBalance(0.0);
-        card.setUser(userService.findAuthenticatedUser());
+        card.setUser(userService.findAuthenticatedUserReference());
         return card;
     }
 
@@ -3,18 +3,28 @@ package com.api.boleteria.service;
 import com.api.boleteria.dto.detail.CinemaDetailDTO;
 import com.api.boleteria.dto.list.CinemaListDTO;
 import com.api.boleteria.dto.request.CinemaRequestDTO;
+import com.api.boleteria.event.CinemaDeletedEvent;
+import com.api.boleteria.event.CinemasSavedEvent;
 import com.api.boleteria.exception.BadRequestException; //
 import com.api.boleteria.exception.NotFoundException; //
 import com.api.boleteria.model.Cinema; //
 import com.api.boleteria.model.enums.ScreenType; //
+import com.api.boleteria.readmodel.CatalogSnapshot;
+import com.api.boleteria.readmodel.CatalogSnapshots;
+import com.api.boleteria.readmodel.CatalogVersions.Catalog;
 import com.api.boleteria.repository.ICinemaRepository; //
 import com.api.boleteria.repository.IFunctionRepository; //
 import com.api.boleteria.validators.CinemaValidator; //
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Servicio para gestionar operaciones relacionadas con Salas de Cine.
@@ -27,31 +37,47 @@ public class CinemaService {
 
     private final IFunctionRepository functionRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+    private final SalesRollupService salesRollupService;
+
+    private final CatalogSnapshots catalogSnapshots;
+
 
     //-------------------------------SAVE--------------------------------//
 
     /**
      * Crea una o más salas (cinemas) a partir de una lista de DTOs.
      *
+     * Los nombres existentes se verifican con una única consulta para todo el lote,
+     * y también se rechazan nombres repetidos dentro de la misma lista.
+     *
      * @param requests Lista de DTOs con los datos de cada sala a crear.
      * @return Lista de CinemaDetailDTO con la información de las salas creadas.
-     * @throws BadRequestException si alguna sala ya existe con el mismo nombre.
+     * @throws BadRequestException si alguna sala ya existe con el mismo nombre o está repetida.
      */
     public List<CinemaDetailDTO> saveAll(List<CinemaRequestDTO> requests) {
         List<Cinema> cinemasToSave = new ArrayList<>();
+        Set<String> names = new HashSet<>();
 
         for (CinemaRequestDTO dto : requests) {
             CinemaValidator.validateFields(dto);
 
-            // Verificar si ya existe una sala con el mismo nombre
-            if (cinemaRepository.existsByName(dto.getName())) { //
-                throw new BadRequestException("Ya existe una sala con el nombre: " + dto.getName()); //
+            if (!names.add(dto.getName().trim().toLowerCase(Locale.ROOT))) {
+                throw new BadRequestException("La sala con el nombre " + dto.getName() + " está repetida en la solicitud.");
             }
 
             cinemasToSave.add(mapToEntity(dto));
         }
 
+        // Verificar si ya existen salas con los mismos nombres
+        List<Cinema> existing = cinemaRepository.findAllByNameIn(
+                cinemasToSave.stream().map(Cinema::getName).toList());
+        if (!existing.isEmpty()) {
+            throw new BadRequestException("Ya existe una sala con el nombre: " + existing.get(0).getName()); //
+        }
+
         List<Cinema> savedCinemas = cinemaRepository.saveAll(cinemasToSave);
+        eventPublisher.publishEvent(new CinemasSavedEvent(savedCinemas, true));
 
         return savedCinemas.stream()
                 .map(this::mapToDetailDTO)
@@ -160,6 +186,7 @@ public class CinemaService {
                     c.setSeatCapacity(entity.getCapacity());
                     c.setEnabled(entity.getEnabled());
                     Cinema updated = cinemaRepository.save(c);
+                    eventPublisher.publishEvent(new CinemasSavedEvent(List.of(updated), false));
                     return mapToDetailDTO(updated);
                 })
                 .orElseThrow(() -> new NotFoundException("La sala con ID: " + id + " no fue encontrada. "));
@@ -181,6 +208,7 @@ public class CinemaService {
                 .map(c -> {
                     c.setEnabled(enabled);
                     Cinema updated = cinemaRepository.save(c);
+                    eventPublisher.publishEvent(new CinemasSavedEvent(List.of(updated), false));
                     return mapToDetailDTO(updated);
                 })
                 .orElseThrow(() -> new NotFoundException("La sala con ID: " + id + " no fue encontrada."));
@@ -195,28 +223,38 @@ public class CinemaService {
     //-------------------------------DELETE--------------------------------//
 
     /**
-     * elimina una sala segun un ID especificado
+     * elimina una sala segun un ID especificado, junto con sus funciones y tickets (sin reintegros)
      * @param id ID de la sala a eliminar
      */
+    @Transactional
     public void deleteById(Long id) {
         CinemaValidator.validateId(id);
         if (!cinemaRepository.existsById(id)) {
             throw new NotFoundException("La sala con ID: " + id + " no fue encontrada. ");
         }
+        salesRollupService.removeCinema(id);
         cinemaRepository.deleteById(id);
+        eventPublisher.publishEvent(new CinemaDeletedEvent(id));
     }
 
-    public List<CinemaListDTO> findAll() {
-        List<CinemaListDTO> list = cinemaRepository.findAll()
-                .stream()
+    /**
+     * Obtiene el listado de salas ya serializado a JSON.
+     *
+     * La copia se regenera solo cuando el catálogo de salas cambió desde la última lectura.
+     *
+     * @return CatalogSnapshot con el listado de CinemaListDTO serializado.
+     * @throws NotFoundException si no hay salas registradas.
+     */
+    public CatalogSnapshot findAllSnapshot() {
+        CatalogSnapshot snapshot = catalogSnapshots.get(Catalog.CINEMAS, () -> cinemaRepository.findAll().stream()
                 .map(this::mapToListDTO)
-                .toList();
+                .toList());
 
-        if (list.isEmpty()) {
+        if (snapshot.empty()) {
             throw new NotFoundException("No hay cines registrados.");
         }
 
-        return list;
+        return snapshot;
     }
 
 
@@ -254,7 +292,7 @@ public class CinemaService {
 
     private Cinema mapToEntity(CinemaRequestDTO dto) {
         Cinema cinema = new Cinema();
-        cinema.setName(dto.getName());
+        cinema.setName(dto.getName().trim());
         cinema.setScreenType(dto.getScreenType());
         cinema.setAtmos(dto.getAtmos());
         cinema.setSeatCapacity(dto.getCapacity());
@@ -2,11 +2,19 @@ package com.api.boleteria.service;
 
 import com.api.boleteria.dto.detail.FunctionDetailDTO;
 import com.api.boleteria.dto.list.FunctionListDTO;
+import com.api.boleteria.dto.list.NowShowingListDTO;
 import com.api.boleteria.dto.request.FunctionRequestDTO;
+import com.api.boleteria.dto.request.FunctionSearchRequestDTO;
+import com.api.boleteria.event.FunctionDeletedEvent;
+import com.api.boleteria.event.FunctionsSavedEvent;
+import com.api.boleteria.event.TicketsRefundedEvent;
 import com.api.boleteria.exception.BadRequestException;
 import com.api.boleteria.exception.NotFoundException;
 import com.api.boleteria.model.*;
 import com.api.boleteria.model.enums.ScreenType;
+import com.api.boleteria.readmodel.NowShowingReadModel;
+import com.api.boleteria.readmodel.ShowtimeEntry;
+import com.api.boleteria.readmodel.ShowtimeQuery;
 import com.api.boleteria.repository.ICardRepository;
 import com.api.boleteria.repository.ICinemaRepository;
 import com.api.boleteria.repository.IFunctionRepository;
@@ -14,13 +22,20 @@ import com.api.boleteria.repository.IMovieRepository;
 import com.api.boleteria.validators.CinemaValidator;
 import com.api.boleteria.validators.FunctionValidator;
 import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Servicio para gestionar operaciones relacionadas con Funciones.
@@ -33,6 +48,8 @@ public class FunctionService {
     private final ICinemaRepository cinemaRepo;
     private final IMovieRepository movieRepo;
     private final ICardRepository cardRepo;
+    private final NowShowingReadModel nowShowing;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     //-------------------------------SAVE--------------------------------//
@@ -47,8 +64,9 @@ public class FunctionService {
      * @throws NotFoundException si alguna sala o película no existe.
      */
     @Transactional
+    @Timed(value = "boleteria.functions.create", description = "Alta de funciones", histogram = true)
     public List<FunctionDetailDTO> createAll(List<FunctionRequestDTO> entities) {
-        List<FunctionDetailDTO> createdFunctions = new ArrayList<>();
+        List<Function> savedFunctions = new ArrayList<>();
 
         for (FunctionRequestDTO entity : entities) {
             FunctionValidator.validateFields(entity);
@@ -74,14 +92,14 @@ public class FunctionService {
             function.setCinema(cinema);
             function.setMovie(movie);
 
-            Function saved = functionRepo.save(function);
-
-
-
-            createdFunctions.add(mapToDetailDTO(saved));
+            savedFunctions.add(functionRepo.save(function));
         }
 
-        return createdFunctions;
+        eventPublisher.publishEvent(new FunctionsSavedEvent(savedFunctions));
+
+        return savedFunctions.stream()
+                .map(this::mapToDetailDTO)
+                .toList();
     }
 
 
@@ -91,16 +109,19 @@ public class FunctionService {
     //-------------------------------FIND--------------------------------//
 
     /**
-     * Muestra todas las funciones.
+     * Muestra las próximas funciones de salas habilitadas, paginadas y ordenadas por horario.
      *
+     * El filtro por sala habilitada y por fecha se resuelve en la consulta SQL,
+     * por lo que solo se cargan las funciones de la página solicitada.
+     *
+     * @param page número de página (comenzando en 0).
+     * @param size cantidad de funciones por página.
      * @return Lista de FunctionListDTO con la información de las funciones encontradas.
      * @throws NotFoundException si no hay funciones cargadas en el sistema.
      */
-    public List<FunctionListDTO> findAll() {
-        List<Function> functions = functionRepo.findAll()
-                .stream()
-                .filter(f -> Boolean.TRUE.equals(f.getCinema().getEnabled()))
-                .toList();
+    public List<FunctionListDTO> findAll(int page, int size) {
+        Page<Function> functions = functionRepo.findByCinema_EnabledTrueAndShowtimeAfterOrderByShowtimeAsc(
+                LocalDateTime.now(), PageRequest.of(page, size));
 
         if (functions.isEmpty()) {
             throw new NotFoundException("No hay funciones cargadas en el sistema.");
@@ -112,6 +133,68 @@ public class FunctionService {
     }
 
 
+    /**
+     * Muestra la cartelera: películas con funciones próximas y asientos disponibles en salas habilitadas.
+     *
+     * Se resuelve desde el modelo de lectura en memoria, sin consultar la base de datos.
+     *
+     * @param date día a consultar; si es null se consideran todas las funciones próximas.
+     * @return Lista de NowShowingListDTO con cada película y sus funciones ordenadas por horario.
+     * @throws NotFoundException si no hay funciones disponibles.
+     */
+    public List<NowShowingListDTO> findNowShowing(LocalDate date) {
+        List<NowShowingListDTO> list = nowShowing.nowShowing(date).values().stream()
+                .map(entries -> new NowShowingListDTO(
+                        entries.get(0).movieId(),
+                        entries.get(0).movieTitle(),
+                        entries.stream().map(this::mapToDetailDTO).toList()))
+                .toList();
+
+        if (list.isEmpty()) {
+            throw new NotFoundException("No hay funciones disponibles en cartelera.");
+        }
+
+        return list;
+    }
+
+
+    /**
+     * Busca funciones próximas combinando varios criterios opcionales
+     * (rango de fechas, película, género, tipo de pantalla, Atmos, sala y asientos libres).
+     *
+     * Se resuelve desde el modelo de lectura en memoria, partiendo del índice más selectivo.
+     *
+     * @param criteria criterios de búsqueda; los nulos no filtran.
+     * @return Lista de FunctionDetailDTO ordenada por horario.
+     * @throws BadRequestException si los criterios no son válidos.
+     * @throws NotFoundException si ninguna función cumple la búsqueda.
+     */
+    public List<FunctionDetailDTO> search(FunctionSearchRequestDTO criteria) {
+        FunctionValidator.validateSearch(criteria);
+
+        ShowtimeQuery query = new ShowtimeQuery(
+                criteria.getFrom() == null ? null : criteria.getFrom().atStartOfDay(),
+                criteria.getTo() == null ? null : criteria.getTo().plusDays(1).atStartOfDay(),
+                criteria.getMovieId(),
+                criteria.getCinemaId(),
+                criteria.getScreenType(),
+                criteria.getAtmos(),
+                criteria.getGenre() == null || criteria.getGenre().isBlank() ? null : criteria.getGenre(),
+                criteria.getMinSeats() == null ? 1 : criteria.getMinSeats()
+        );
+
+        List<ShowtimeEntry> functions = nowShowing.search(query);
+
+        if (functions.isEmpty()) {
+            throw new NotFoundException("No hay funciones disponibles para los criterios indicados.");
+        }
+
+        return functions.stream()
+                .map(this::mapToDetailDTO)
+                .toList();
+    }
+
+
     /**
      * obtiene las funciones segun un ID especificado
      * @param id de la funcion a buscar
@@ -164,18 +247,22 @@ public class FunctionService {
     }
 
     /**
-     * Muestra las funciones según un tipo de pantalla especificado.
+     * Muestra las funciones según un tipo de pantalla especificado y, opcionalmente,
+     * si la sala tiene Atmos y el género o la clasificación de la película.
+     *
+     * Se resuelve desde los mapas de bits del modelo de lectura, sin consultar la base de datos.
      *
      * @param screenType tipo de pantalla especificado.
+     * @param atmos filtro opcional por sonido Atmos (null para no filtrar).
+     * @param genre filtro opcional por género (null para no filtrar).
+     * @param classification filtro opcional por clasificación (null para no filtrar).
      * @return Lista de FunctionListDTO con las funciones encontradas.
-     * @throws NotFoundException si no hay funciones disponibles para el tipo de pantalla.
+     * @throws NotFoundException si no hay funciones disponibles para los filtros indicados.
      */
-    public List<FunctionDetailDTO> findByScreenType(ScreenType screenType) {
+    public List<FunctionDetailDTO> findByScreenType(ScreenType screenType, Boolean atmos, String genre, String classification) {
         CinemaValidator.validateScreenType(screenType);
 
-        List<Function> functions = functionRepo
-                .findByCinema_ScreenTypeAndAvailableCapacityGreaterThanAndShowtimeAfterAndCinema_EnabledTrue(
-                        screenType, 0, LocalDateTime.now());
+        List<ShowtimeEntry> functions = nowShowing.filter(screenType, atmos, genre, classification);
 
         if (functions.isEmpty()) {
             throw new NotFoundException("No hay funciones disponibles para el tipo de pantalla: " + screenType);
@@ -263,6 +350,7 @@ public class FunctionService {
         function.setAvailableCapacity(cinema.getSeatCapacity());
 
         Function updated = functionRepo.save(function);
+        eventPublisher.publishEvent(new FunctionsSavedEvent(List.of(updated)));
         return mapToDetailDTO(updated);
     }
 
@@ -286,6 +374,7 @@ public class FunctionService {
                 .orElseThrow(() -> new NotFoundException("La función con ID: " + id + " no fue encontrada."));
 
         List<Ticket> tickets = function.getTickets();
+        Map<LocalDate, List<Ticket>> ticketsByPurchaseDate = new TreeMap<>();
 
         for (Ticket ticket : tickets) {
             User user = ticket.getUser();
@@ -295,10 +384,21 @@ public class FunctionService {
             // Reintegrar saldo
             card.setBalance(card.getBalance() + ticket.getTicketPrice());
             cardRepo.save(card);
+
+            ticketsByPurchaseDate.computeIfAbsent(ticket.getPurchaseDateTime().toLocalDate(), d -> new ArrayList<>()).add(ticket);
         }
 
+        ticketsByPurchaseDate.forEach((date, refunded) -> eventPublisher.publishEvent(new TicketsRefundedEvent(
+                id,
+                function.getMovie().getId(),
+                function.getCinema().getId(),
+                date,
+                refunded.size(),
+                refunded.stream().mapToDouble(Ticket::getTicketPrice).sum())));
+
         // Eliminar función junto con sus tickets (gracias a cascade y orphanRemoval)
         functionRepo.delete(function);
+        eventPublisher.publishEvent(new FunctionDeletedEvent(id));
     }
 
 
@@ -321,6 +421,23 @@ public class FunctionService {
         );
     }
 
+    /**
+     * Convierte una entrada del modelo de lectura en un DTO de detalle.
+     * @param entry entrada de cartelera
+     * @return FunctionDetailDTO con los datos detallados de la función
+     */
+    private FunctionDetailDTO mapToDetailDTO(ShowtimeEntry entry) {
+        return new FunctionDetailDTO(
+                entry.functionId(),
+                entry.showtime().format(DateTimeFormatter.ISO_DATE_TIME),
+                entry.cinemaId(),
+                entry.cinemaName(),
+                entry.movieId(),
+                entry.movieTitle(),
+                entry.availableCapacity()
+        );
+    }
+
     /**
      * Convierte una entidad Function en un DTO de lista.
      * @param function entidad Function
@@ -0,0 +1,258 @@
+package com.api.boleteria.service;
+
+import com.api.boleteria.config.ImportConfig.ImportWorkers;
+import com.api.boleteria.dto.detail.ImportErrorDTO;
+import com.api.boleteria.dto.detail.ImportResultDTO;
+import com.api.boleteria.dto.request.CinemaRequestDTO;
+import com.api.boleteria.dto.request.FunctionRequestDTO;
+import com.api.boleteria.dto.request.MovieRequestDTO;
+import com.api.boleteria.exception.BadRequestException;
+import com.api.boleteria.validators.CinemaValidator;
+import com.api.boleteria.validators.FunctionValidator;
+import com.api.boleteria.validators.MovieValidator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio para la importación masiva de películas, salas y funciones desde archivos CSV o NDJSON.
+ *
+ * El archivo se lee fila por fila sin cargarlo completo en memoria. Las filas se agrupan en bloques
+ * de tamaño fijo: cada bloque se valida en paralelo y luego se guarda con el mismo servicio que usan
+ * los endpoints de creación. Si el guardado de un bloque falla, se reintenta fila por fila para
+ * informar exactamente qué filas no se pudieron importar.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+
+    private final MovieService movieService;
+    private final CinemaService cinemaService;
+    private final FunctionService functionService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ImportWorkers importWorkers;
+
+    @Value("${app.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+
+    //-------------------------------IMPORT--------------------------------//
+
+    /**
+     * Importa películas desde un archivo CSV (con encabezado) o NDJSON.
+     *
+     * @param body contenido del archivo.
+     * @param contentType tipo de contenido: text/csv o application/x-ndjson.
+     * @return ImportResultDTO con la cantidad de filas importadas y los errores por fila.
+     * @throws BadRequestException si el archivo no se puede leer.
+     */
+    public ImportResultDTO importMovies(InputStream body, MediaType contentType) {
+        return importRows("movies", body, contentType, MovieRequestDTO.class,
+                MovieValidator::validateFields, movieService::createAll);
+    }
+
+    /**
+     * Importa salas desde un archivo CSV (con encabezado) o NDJSON.
+     *
+     * @param body contenido del archivo.
+     * @param contentType tipo de contenido: text/csv o application/x-ndjson.
+     * @return ImportResultDTO con la cantidad de filas importadas y los errores por fila.
+     * @throws BadRequestException si el archivo no se puede leer.
+     */
+    public ImportResultDTO importCinemas(InputStream body, MediaType contentType) {
+        return importRows("cinemas", body, contentType, CinemaRequestDTO.class,
+                CinemaValidator::validateFields, cinemaService::saveAll);
+    }
+
+    /**
+     * Importa funciones desde un archivo CSV (con encabezado) o NDJSON.
+     *
+     * @param body contenido del archivo.
+     * @param contentType tipo de contenido: text/csv o application/x-ndjson.
+     * @return ImportResultDTO con la cantidad de filas importadas y los errores por fila.
+     * @throws BadRequestException si el archivo no se puede leer.
+     */
+    public ImportResultDTO importFunctions(InputStream body, MediaType contentType) {
+        return importRows("functions", body, contentType, FunctionRequestDTO.class,
+                dto -> {
+                    FunctionValidator.validateFields(dto);
+                    FunctionValidator.validateMaxTwoYears(dto);
+                },
+                functionService::createAll);
+    }
+
+
+    //-------------------------------PROCESS--------------------------------//
+
+    private <T> ImportResultDTO importRows(String type, InputStream body, MediaType contentType, Class<T> rowType,
+                                           Consumer<T> fieldValidator, Function<List<T>, List<?>> saver) {
+        Progress progress = new Progress(maxReportedErrors);
+
+        try (MappingIterator<Map<String, Object>> rows = open(body, contentType)) {
+            List<RawRow> chunk = new ArrayList<>(chunkSize);
+            long rowNumber = 0;
+
+            while (true) {
+                Map<String, Object> values;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    values = rows.nextValue();
+                } catch (IOException | RuntimeException e) {
+                    // Un error de formato deja al lector en un estado inconsistente: se detiene la lectura.
+                    progress.fail(rowNumber + 1, "Formato inválido, se detuvo la importación: " + e.getMessage());
+                    break;
+                }
+
+                chunk.add(new RawRow(++rowNumber, values));
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, rowType, fieldValidator, saver, progress);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, rowType, fieldValidator, saver, progress);
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("No se pudo leer el archivo de importación.");
+        }
+
+        return progress.toResult(type);
+    }
+
+    private <T> void processChunk(List<RawRow> chunk, Class<T> rowType, Consumer<T> fieldValidator,
+                                  Function<List<T>, List<?>> saver, Progress progress) {
+        List<CompletableFuture<ParsedRow<T>>> futures = chunk.stream()
+                .map(raw -> CompletableFuture.supplyAsync(() -> parse(raw, rowType, fieldValidator), importWorkers.executor()))
+                .toList();
+
+        List<ParsedRow<T>> valid = new ArrayList<>(chunk.size());
+        for (CompletableFuture<ParsedRow<T>> future : futures) {
+            ParsedRow<T> row = future.join();
+            progress.rows++;
+            if (row.error() == null) {
+                valid.add(row);
+            } else {
+                progress.fail(row.row(), row.error());
+            }
+        }
+
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            saver.apply(valid.stream().map(ParsedRow::value).toList());
+            progress.imported += valid.size();
+        } catch (RuntimeException chunkError) {
+            for (ParsedRow<T> row : valid) {
+                try {
+                    saver.apply(List.of(row.value()));
+                    progress.imported++;
+                } catch (RuntimeException rowError) {
+                    progress.fail(row.row(), message(rowError));
+                }
+            }
+        }
+    }
+
+    private <T> ParsedRow<T> parse(RawRow raw, Class<T> rowType, Consumer<T> fieldValidator) {
+        T value;
+        try {
+            value = objectMapper.convertValue(raw.values(), rowType);
+        } catch (IllegalArgumentException e) {
+            return new ParsedRow<>(raw.row(), null, "Fila con valores inválidos: " + e.getMessage());
+        }
+
+        var violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return new ParsedRow<>(raw.row(), null, message);
+        }
+
+        try {
+            fieldValidator.accept(value);
+        } catch (RuntimeException e) {
+            return new ParsedRow<>(raw.row(), null, e.getMessage());
+        }
+
+        return new ParsedRow<>(raw.row(), value, null);
+    }
+
+    private MappingIterator<Map<String, Object>> open(InputStream body, MediaType contentType) throws IOException {
+        if (contentType != null && contentType.getSubtype().contains("csv")) {
+            return CSV_MAPPER.readerFor(Map.class).with(CSV_SCHEMA).readValues(body);
+        }
+        return objectMapper.readerFor(Map.class).readValues(body);
+    }
+
+    private static String message(RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            return "La fila entra en conflicto con datos existentes.";
+        }
+        return e.getMessage();
+    }
+
+
+    //-------------------------------TYPES--------------------------------//
+
+    private record RawRow(long row, Map<String, Object> values) {}
+
+    private record ParsedRow<T>(long row, T value, String error) {}
+
+    /**
+     * Contadores de la importación. Solo se modifica desde el hilo que procesa la solicitud.
+     */
+    private static final class Progress {
+        private final int maxErrors;
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+        private long rows;
+        private long imported;
+        private long failed;
+
+        private Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long row, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportErrorDTO(row, message));
+            }
+        }
+
+        private ImportResultDTO toResult(String type) {
+            return new ImportResultDTO(type, rows, imported, failed, errors);
+        }
+    }
+}
@@ -2,19 +2,36 @@ package com.api.boleteria.service;
 
 import com.api.boleteria.dto.detail.MovieDetailDTO;
 import com.api.boleteria.dto.list.MovieListDTO;
+import com.api.boleteria.dto.list.MovieRecommendationListDTO;
+import com.api.boleteria.dto.list.MovieSuggestionListDTO;
+import com.api.boleteria.dto.list.TrendingMovieListDTO;
 import com.api.boleteria.dto.request.MovieRequestDTO;
+import com.api.boleteria.event.MovieDeletedEvent;
+import com.api.boleteria.event.MoviesSavedEvent;
 import com.api.boleteria.exception.BadRequestException;
 import com.api.boleteria.exception.NotFoundException;
 import com.api.boleteria.model.Function;
 import com.api.boleteria.model.Movie;
+import com.api.boleteria.readmodel.CatalogSnapshot;
+import com.api.boleteria.readmodel.CatalogSnapshots;
+import com.api.boleteria.readmodel.CatalogVersions.Catalog;
+import com.api.boleteria.readmodel.CoPurchaseMatrix;
+import com.api.boleteria.readmodel.MovieAutocompleteIndex;
+import com.api.boleteria.readmodel.MovieSearchIndex;
+import com.api.boleteria.readmodel.TrendingMovies;
 import com.api.boleteria.repository.IFunctionRepository;
 import com.api.boleteria.repository.IMovieRepository;
 import com.api.boleteria.validators.MovieValidator;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Servicio para gestionar operaciones relacionadas con Peliculas.
@@ -24,6 +41,16 @@ import java.util.List;
 public class MovieService {
 
     private final IMovieRepository movieRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SalesRollupService salesRollupService;
+    private final CatalogSnapshots catalogSnapshots;
+    private final MovieSearchIndex movieSearchIndex;
+    private final MovieAutocompleteIndex movieAutocompleteIndex;
+    private final TrendingMovies trendingMovies;
+    private final CoPurchaseMatrix coPurchaseMatrix;
+
+    /** Cantidad de películas recomendadas en el detalle de una película. */
+    private static final int RECOMMENDATIONS = 5;
 
 
     //-------------------------------SAVE--------------------------------//
@@ -31,28 +58,38 @@ public class MovieService {
     /**
      * Crea una o más películas a partir de una lista de DTOs.
      *
-     * Valida cada película antes de ser persistida, asegurándose de que no existan duplicados por título.
+     * Valida cada película antes de ser persistida, asegurándose de que no existan duplicados por título,
+     * ni en la base de datos ni dentro de la misma lista. Los títulos existentes se consultan
+     * en una única consulta para todo el lote (sin distinguir mayúsculas).
      *
      * @param requests Lista de DTOs con los datos de las películas a crear.
      * @return Lista de MovieDetailDTO con la información de las películas creadas.
-     * @throws BadRequestException si alguna película ya existe o los datos son inválidos.
+     * @throws BadRequestException si alguna película ya existe, está repetida o los datos son inválidos.
      */
     public List<MovieDetailDTO> createAll(List<MovieRequestDTO> requests) {
         List<Movie> moviesToSave = new ArrayList<>();
+        Set<String> titles = new HashSet<>();
 
         for (MovieRequestDTO req : requests) {
             MovieValidator.validateFields(req);
 
             String title = req.getTitle().trim();
 
-            if (movieRepository.existsByTitle(title)) {
-                throw new BadRequestException("Ya existe una película con el título: " + title);
+            if (!titles.add(title.toLowerCase(Locale.ROOT))) {
+                throw new BadRequestException("La película con el título " + title + " está repetida en la solicitud.");
             }
 
             moviesToSave.add(mapToEntity(req));
         }
 
+        List<Movie> existing = movieRepository.findAllByTitleIn(
+                moviesToSave.stream().map(Movie::getTitle).toList());
+        if (!existing.isEmpty()) {
+            throw new BadRequestException("Ya existe una película con el título: " + existing.get(0).getTitle());
+        }
+
         List<Movie> saved = movieRepository.saveAll(moviesToSave);
+        eventPublisher.publishEvent(new MoviesSavedEvent(saved, true));
 
         return saved.stream()
                 .map(this::mapToDetailDTO)
@@ -66,15 +103,15 @@ public class MovieService {
     /**
      * Muestra todas las películas asociadas a un género en específico.
      *
+     * La búsqueda no distingue mayúsculas ni tildes y se resuelve desde el índice en memoria.
+     *
      * @param genre género de la película a mostrar.
      * @return lista de MovieListDTO con la información de las películas encontradas.
      * @throws NotFoundException si no se encontraron películas para el género dado.
      */
     public List<MovieListDTO> findByMovieGenre(String genre) {
         MovieValidator.validateGenre(genre);
-        List<MovieListDTO> list = movieRepository.findByMovieGenre(genre).stream()
-                .map(this::mapToListDTO)
-                .toList();
+        List<MovieListDTO> list = movieSearchIndex.findByGenre(genre);
 
         if (list.isEmpty()) {
             throw new NotFoundException("No se encontraron películas para el género: " + genre);
@@ -84,24 +121,93 @@ public class MovieService {
     }
 
     /**
-     * Obtiene todas las películas cargadas.
+     * Obtiene el listado de películas ya serializado a JSON.
      *
-     * @return lista de MovieListDTO con la información de las películas encontradas.
+     * La copia se regenera solo cuando el catálogo de películas cambió desde la última lectura.
+     *
+     * @return CatalogSnapshot con el listado de MovieListDTO serializado.
      * @throws NotFoundException si no hay películas cargadas.
      */
-    public List<MovieListDTO> findAll() {
-        List<MovieListDTO> list = movieRepository.findAll().stream()
+    public CatalogSnapshot findAllSnapshot() {
+        CatalogSnapshot snapshot = catalogSnapshots.get(Catalog.MOVIES, () -> movieRepository.findAll().stream()
                 .map(this::mapToListDTO)
-                .toList();
+                .toList());
 
-        if (list.isEmpty()) {
+        if (snapshot.empty()) {
             throw new NotFoundException("No hay películas cargadas en el sistema.");
         }
 
+        return snapshot;
+    }
+
+
+    /**
+     * Busca películas por texto en el título, director, género y sinopsis.
+     *
+     * La búsqueda no distingue mayúsculas ni tildes y se resuelve en memoria, sin consultar la base de datos.
+     *
+     * @param query texto a buscar.
+     * @param limit cantidad máxima de resultados.
+     * @return lista de MovieListDTO ordenada por relevancia.
+     * @throws BadRequestException si la consulta está vacía.
+     * @throws NotFoundException si ninguna película coincide con la búsqueda.
+     */
+    public List<MovieListDTO> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("El texto de búsqueda es obligatorio.");
+        }
+
+        List<MovieListDTO> list = movieSearchIndex.search(query, limit);
+
+        if (list.isEmpty()) {
+            throw new NotFoundException("No se encontraron películas para la búsqueda: " + query.trim());
+        }
+
         return list;
     }
 
 
+    /**
+     * Sugiere películas cuyo título o director comienza con el texto escrito.
+     *
+     * Se resuelve en memoria; las películas con más funciones próximas aparecen primero.
+     *
+     * @param prefix texto escrito por el usuario.
+     * @param limit cantidad máxima de sugerencias.
+     * @return lista de MovieSuggestionListDTO (vacía si no hay coincidencias).
+     * @throws BadRequestException si el prefijo está vacío.
+     */
+    public List<MovieSuggestionListDTO> autocomplete(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new BadRequestException("El prefijo de búsqueda es obligatorio.");
+        }
+        return movieAutocompleteIndex.suggest(prefix, limit);
+    }
+
+
+    /**
+     * Obtiene las películas con más tickets vendidos en una ventana de tiempo.
+     *
+     * El ranking se mantiene en memoria a partir de las compras, sin consultar la tabla de tickets.
+     *
+     * @param window ventana de tiempo (última hora, día o semana).
+     * @param limit cantidad máxima de películas.
+     * @return lista de TrendingMovieListDTO de mayor a menor cantidad de tickets (vacía si no hubo ventas).
+     * @throws BadRequestException si la ventana es nula.
+     */
+    public List<TrendingMovieListDTO> trending(TrendingMovies.Window window, int limit) {
+        if (window == null) {
+            throw new BadRequestException("La ventana de tiempo es obligatoria.");
+        }
+        return trendingMovies.top(window, limit).stream()
+                .map(t -> new TrendingMovieListDTO(
+                        t.movieId(),
+                        movieSearchIndex.find(t.movieId()).map(MovieListDTO::title).orElse(null),
+                        t.tickets()))
+                .toList();
+    }
+
+
     /**
      * obtiene una pelicula segun un ID especificado
      * @param id ID de la pelicula a buscar
@@ -152,6 +258,7 @@ public class MovieService {
                     movie.setSynopsis(req.getSynopsis());
 
                     Movie updated = movieRepository.save(movie);
+                    eventPublisher.publishEvent(new MoviesSavedEvent(List.of(updated), false));
                     return mapToDetailDTO(updated);
                 })
                 .orElseThrow(() -> new NotFoundException("La película con ID: " + id + " no fue encontrada."));
@@ -162,15 +269,18 @@ public class MovieService {
     //-------------------------------DELETE--------------------------------//
 
     /**
-     * elimina una pelicula segun un ID especificado
+     * elimina una pelicula segun un ID especificado, junto con sus funciones y tickets (sin reintegros)
      * @param id ID de la pelicula a eliminar
      */
+    @Transactional
     public void deleteById(Long id) {
         MovieValidator.validateId(id);
         if (!movieRepository.existsById(id)) {
             throw new NotFoundException("La pelicula con ID: " + id + " no fue encontrada.");
         }
+        salesRollupService.removeMovie(id);
         movieRepository.deleteById(id);
+        eventPublisher.publishEvent(new MovieDeletedEvent(id));
     }
 
 
@@ -178,7 +288,8 @@ public class MovieService {
     //-------------------------------MAP--------------------------------//
 
     /**
-     * Convierte una entidad Movie en un DTO detallado.
+     * Convierte una entidad Movie en un DTO detallado, incluyendo las películas que más compraron
+     * quienes compraron tickets para esta.
      * @param movie entidad Movie
      * @return MovieDetailDTO con todos los datos de la película
      */
@@ -190,10 +301,24 @@ public class MovieService {
                 movie.getMovieGenre(),
                 movie.getDirector(),
                 movie.getClassification(),
-                movie.getSynopsis()
+                movie.getSynopsis(),
+                alsoBought(movie.getId())
         );
     }
 
+    /**
+     * Obtiene las recomendaciones de co-compra de una película, descartando las que ya no están en el catálogo.
+     * @param movieId ID de la película
+     * @return lista de MovieRecommendationListDTO de mayor a menor cantidad de compradores en común
+     */
+    private List<MovieRecommendationListDTO> alsoBought(Long movieId) {
+        return coPurchaseMatrix.alsoBought(movieId, RECOMMENDATIONS).stream()
+                .flatMap(r -> movieSearchIndex.find(r.movieId())
+                        .map(m -> new MovieRecommendationListDTO(m.id(), m.title(), r.buyers()))
+                        .stream())
+                .toList();
+    }
+
     /**
      * Convierte una entidad Movie en un DTO de lista.
      * @param movie entidad Movie
@@ -219,30 +344,4 @@ public class MovieService {
         movie.setSynopsis(dto.getSynopsis());
         return movie;
     }
-
-
-
-    //-------------------------------VERIFY--------------------------------//
-
-    /**
-     * Verifica si ya existe una película con el título especificado.
-     *
-     * Realiza una validación previa para asegurarse de que el título no sea nulo ni esté vacío.
-     *
-     * @param title Título de la película a verificar.
-     * @return true si existe una película con ese título, false en caso contrario.
-     * @throws IllegalArgumentException si el título es nulo o está vacío.
-     */
-    public boolean existsByTitle(String title) {
-        if (title == null || title.trim().isEmpty()) {
-            throw new IllegalArgumentException("El título no puede estar vacío.");
-        }
-        return movieRepository.existsByTitle(title.trim());
-    }
 }
-
-
-
-
-
-
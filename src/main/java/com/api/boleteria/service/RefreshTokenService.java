@@ -0,0 +1,154 @@
+package com.api.boleteria.service;
+
+import com.api.boleteria.config.JwtUtil;
+import com.api.boleteria.exception.InvalidRefreshTokenException;
+import com.api.boleteria.model.RefreshToken;
+import com.api.boleteria.model.User;
+import com.api.boleteria.repository.IRefreshTokenRepository;
+import com.api.boleteria.repository.IUserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Servicio de tokens de renovación (refresh tokens).
+ *
+ * Permite obtener un nuevo token de acceso sin volver a enviar la contraseña, evitando el costo de BCrypt
+ * en cada renovación. Los tokens son opacos y aleatorios, y en la base solo se guarda su hash SHA-256.
+ * Cada renovación usa el token una única vez y emite uno nuevo de la misma familia (rotación); presentar un
+ * token ya usado indica que fue robado o reenviado, por lo que se revoca la familia completa.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int TOKEN_BYTES = 32;
+
+    private final IRefreshTokenRepository refreshTokenRepository;
+    private final IUserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.jwt.refresh-expiration-ms:604800000}")
+    private long refreshExpiration;
+
+
+    //-------------------------------SAVE--------------------------------//
+
+    /**
+     * Emite el primer refresh token de un nuevo inicio de sesión.
+     *
+     * @param userId ID del usuario que inició sesión.
+     * @return Refresh token en texto plano; no se vuelve a mostrar.
+     */
+    public String issue(Long userId) {
+        return save(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Renueva la sesión: usa el refresh token recibido y devuelve un nuevo token de acceso y un nuevo refresh token.
+     *
+     * @param rawToken Refresh token recibido.
+     * @return Mapa con el nuevo token de acceso (token) y el nuevo refresh token (refreshToken).
+     * @throws InvalidRefreshTokenException si el token no existe, expiró, ya fue usado o el usuario ya no existe.
+     */
+    @Transactional(dontRollbackOn = InvalidRefreshTokenException.class)
+    @Timed(value = "boleteria.users.refresh", description = "Renovación de sesión", histogram = true)
+    public Map<String, String> refresh(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido."));
+
+        if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidRefreshTokenException("Refresh token expirado. Inicie sesión nuevamente.");
+        }
+
+        if (token.getRevoked() || refreshTokenRepository.markUsed(token.getId()) == 0) {
+            refreshTokenRepository.revokeFamily(token.getFamily());
+            log.warn("Refresh token reutilizado para el usuario {}: se revocó la sesión {}", token.getUserId(), token.getFamily());
+            throw new InvalidRefreshTokenException("Refresh token revocado o ya utilizado. Inicie sesión nuevamente.");
+        }
+
+        User user = userRepository.findById(token.getUserId())
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido."));
+
+        String accessToken = jwtUtil.createToken(user.getId(), user.getUsername(), List.of(user.getRole().name()));
+        return Map.of(
+                "token", accessToken,
+                "refreshToken", save(user.getId(), token.getFamily()));
+    }
+
+
+    //-------------------------------DELETE--------------------------------//
+
+    /**
+     * Cierra la sesión del refresh token recibido, revocando todos los tokens de su familia.
+     * Un token desconocido se ignora para no revelar si existe.
+     *
+     * @param rawToken Refresh token recibido.
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamily()));
+    }
+
+    /**
+     * Revoca todas las sesiones de un usuario, incluida la que hace la solicitud, por ejemplo al cambiar su contraseña.
+     *
+     * @param userId ID del usuario.
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    /**
+     * Borra periódicamente los refresh tokens expirados.
+     */
+    @Scheduled(cron = "${app.jwt.refresh-cleanup-cron:0 0 5 * * *}")
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpired(LocalDateTime.now()));
+        log.info("Refresh tokens expirados borrados: {}", deleted);
+    }
+
+
+    //-------------------------------HELPERS--------------------------------//
+
+    private String save(Long userId, String family) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(new RefreshToken(null, hash(rawToken), userId, family,
+                now, now.plusNanos(refreshExpiration * 1_000_000), false));
+        return rawToken;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
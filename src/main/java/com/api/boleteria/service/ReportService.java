@@ -0,0 +1,285 @@
+package com.api.boleteria.service;
+
+import com.api.boleteria.dto.detail.FunctionSalesDetailDTO;
+import com.api.boleteria.dto.list.CinemaDailySalesListDTO;
+import com.api.boleteria.dto.list.MovieDailySalesListDTO;
+import com.api.boleteria.exception.BadRequestException;
+import com.api.boleteria.exception.NotFoundException;
+import com.api.boleteria.dto.list.SalesGroupListDTO;
+import com.api.boleteria.model.FunctionSales;
+import com.api.boleteria.readmodel.SalesColumnStore;
+import com.api.boleteria.readmodel.SalesColumnStore.Dimension;
+import com.api.boleteria.repository.ICinemaDailySalesRepository;
+import com.api.boleteria.repository.IFunctionSalesRepository;
+import com.api.boleteria.repository.IMovieDailySalesRepository;
+import com.api.boleteria.validators.FunctionValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Servicio para generar reportes de ventas.
+ *
+ * Los reportes se escriben directamente desde un cursor JDBC hacia la respuesta HTTP,
+ * fila por fila y con un buffer de tamaño fijo, sin construir entidades ni listas intermedias,
+ * por lo que el consumo de memoria no depende del rango de fechas exportado.
+ *
+ * Las métricas de ventas y ocupación se leen de las tablas pre-agregadas que mantiene
+ * {@link SalesRollupService}, sin recorrer la tabla de tickets.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+
+    private static final int MAX_DAYS = 366;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String SALES_HEADER = "ticket_id,purchase_date_time,ticket_price,function_id,showtime,"
+            + "movie_id,movie_title,cinema_id,cinema_name,screen_type,user_id,username,email";
+
+    private static final String SALES_QUERY = """
+            SELECT t.id, t.purchase_date_time, t.ticket_price,
+                   f.id, f.showtime,
+                   m.id, m.title,
+                   c.id, c.name, c.screen_type,
+                   u.id, u.username, u.email
+            FROM tickets t
+            JOIN functions f ON f.id = t.function_id
+            JOIN movies m ON m.id = f.movie_id
+            JOIN cinemas c ON c.id = f.cinema_id
+            LEFT JOIN users u ON u.id = t.user_id
+            WHERE t.purchase_date_time >= ? AND t.purchase_date_time < ?
+            ORDER BY t.purchase_date_time, t.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IMovieDailySalesRepository movieDailySalesRepo;
+    private final ICinemaDailySalesRepository cinemaDailySalesRepo;
+    private final IFunctionSalesRepository functionSalesRepo;
+    private final SalesColumnStore salesColumnStore;
+
+    @Value("${app.reports.fetch-size:1000}")
+    private int fetchSize;
+
+
+    //-------------------------------REPORT--------------------------------//
+
+    /**
+     * Genera el reporte de ventas (un renglón por ticket) en formato CSV.
+     *
+     * @param from primer día incluido en el reporte.
+     * @param to último día incluido en el reporte.
+     * @param gzip true para comprimir la salida con gzip.
+     * @return StreamingResponseBody que escribe el CSV a medida que lee las filas.
+     * @throws BadRequestException si el rango de fechas es inválido o supera el máximo permitido.
+     */
+    public StreamingResponseBody salesCsv(LocalDate from, LocalDate to, boolean gzip) {
+        validateRange(from, to);
+
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+
+        return output -> {
+            OutputStream target = gzip ? new GZIPOutputStream(output, BUFFER_SIZE) : output;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(SALES_HEADER);
+            writer.write('\n');
+
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        SALES_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setTimestamp(1, start);
+                statement.setTimestamp(2, end);
+                return statement;
+            }, (ResultSet rs) -> writeSalesRow(rs, writer));
+
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipOutput) {
+                gzipOutput.finish();
+            }
+        };
+    }
+
+
+    //-------------------------------ROLLUPS--------------------------------//
+
+    /**
+     * Obtiene las ventas diarias por película desde la tabla pre-agregada.
+     *
+     * @param from primer día incluido.
+     * @param to último día incluido.
+     * @return Lista de MovieDailySalesListDTO ordenada por fecha y película.
+     * @throws BadRequestException si el rango de fechas es inválido.
+     * @throws NotFoundException si no hubo ventas en el rango.
+     */
+    public List<MovieDailySalesListDTO> movieDailySales(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        List<MovieDailySalesListDTO> list = movieDailySalesRepo.findBySalesDateBetweenOrderBySalesDateAscMovieIdAsc(from, to).stream()
+                .map(s -> new MovieDailySalesListDTO(s.getMovieId(), s.getSalesDate(), s.getTicketsSold(), s.getRevenue()))
+                .toList();
+
+        if (list.isEmpty()) {
+            throw new NotFoundException("No hay ventas registradas entre " + from + " y " + to + ".");
+        }
+
+        return list;
+    }
+
+    /**
+     * Obtiene las ventas diarias por sala desde la tabla pre-agregada.
+     *
+     * @param from primer día incluido.
+     * @param to último día incluido.
+     * @return Lista de CinemaDailySalesListDTO ordenada por fecha y sala.
+     * @throws BadRequestException si el rango de fechas es inválido.
+     * @throws NotFoundException si no hubo ventas en el rango.
+     */
+    public List<CinemaDailySalesListDTO> cinemaDailySales(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        List<CinemaDailySalesListDTO> list = cinemaDailySalesRepo.findBySalesDateBetweenOrderBySalesDateAscCinemaIdAsc(from, to).stream()
+                .map(s -> new CinemaDailySalesListDTO(s.getCinemaId(), s.getSalesDate(), s.getTicketsSold(), s.getRevenue()))
+                .toList();
+
+        if (list.isEmpty()) {
+            throw new NotFoundException("No hay ventas registradas entre " + from + " y " + to + ".");
+        }
+
+        return list;
+    }
+
+    /**
+     * Obtiene las ventas y la ocupación de una función desde la tabla pre-agregada.
+     *
+     * @param functionId ID de la función.
+     * @return FunctionSalesDetailDTO con los tickets vendidos, la recaudación y la ocupación (0 a 1).
+     * @throws NotFoundException si la función no registra ventas.
+     */
+    public FunctionSalesDetailDTO functionSales(Long functionId) {
+        FunctionValidator.validateId(functionId);
+        FunctionSales sales = functionSalesRepo.findById(functionId)
+                .orElseThrow(() -> new NotFoundException("La función con ID: " + functionId + " no registra ventas."));
+        return mapToDetailDTO(sales);
+    }
+
+    /**
+     * Obtiene las ventas y la ocupación de todas las funciones de una película.
+     *
+     * @param movieId ID de la película.
+     * @return Lista de FunctionSalesDetailDTO ordenada por horario.
+     * @throws NotFoundException si la película no registra ventas.
+     */
+    public List<FunctionSalesDetailDTO> functionSalesByMovie(Long movieId) {
+        FunctionValidator.validateMovieId(movieId);
+        List<FunctionSalesDetailDTO> list = functionSalesRepo.findByMovieIdOrderByShowtimeAsc(movieId).stream()
+                .map(this::mapToDetailDTO)
+                .toList();
+
+        if (list.isEmpty()) {
+            throw new NotFoundException("La película con ID: " + movieId + " no registra ventas.");
+        }
+
+        return list;
+    }
+
+    /**
+     * Agrupa las ventas según una dimensión (hora o día de la función, hora de compra, tipo de pantalla,
+     * género, clasificación, película o sala), resolviendo la consulta sobre el almacén columnar en memoria.
+     *
+     * @param dimension dimensión de agrupación.
+     * @param from primer día de compra incluido (opcional).
+     * @param to último día de compra incluido (opcional).
+     * @return Lista de SalesGroupListDTO con los tickets y la recaudación de cada grupo.
+     * @throws BadRequestException si la dimensión es nula o el rango de fechas es inválido.
+     * @throws NotFoundException si no hay ventas para los criterios indicados.
+     */
+    public List<SalesGroupListDTO> analytics(Dimension dimension, LocalDate from, LocalDate to) {
+        if (dimension == null) {
+            throw new BadRequestException("La dimensión de agrupación es obligatoria.");
+        }
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new BadRequestException("La fecha hasta no puede ser anterior a la fecha desde.");
+        }
+
+        List<SalesGroupListDTO> list = salesColumnStore.groupBy(dimension, from, to).stream()
+                .map(g -> new SalesGroupListDTO(g.key(), g.tickets(), g.revenue()))
+                .toList();
+
+        if (list.isEmpty()) {
+            throw new NotFoundException("No hay ventas registradas para los criterios indicados.");
+        }
+
+        return list;
+    }
+
+    private FunctionSalesDetailDTO mapToDetailDTO(FunctionSales sales) {
+        return new FunctionSalesDetailDTO(
+                sales.getFunctionId(),
+                sales.getMovieId(),
+                sales.getCinemaId(),
+                sales.getShowtime(),
+                sales.getSeatCapacity(),
+                sales.getTicketsSold(),
+                sales.getRevenue(),
+                sales.getSeatCapacity() > 0 ? (double) sales.getTicketsSold() / sales.getSeatCapacity() : 0.0
+        );
+    }
+
+
+    //-------------------------------CSV--------------------------------//
+
+    private static void writeSalesRow(ResultSet rs, Writer writer) throws SQLException {
+        try {
+            for (int column = 1; column <= 13; column++) {
+                if (column > 1) {
+                    writer.write(',');
+                }
+                writeValue(writer, rs.getString(column));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            // El cliente cerró la conexión: se corta la lectura del cursor.
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new BadRequestException("Las fechas desde y hasta son obligatorias.");
+        }
+        if (to.isBefore(from)) {
+            throw new BadRequestException("La fecha hasta no puede ser anterior a la fecha desde.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new BadRequestException("El reporte no puede abarcar más de " + MAX_DAYS + " días.");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.api.boleteria.service;
+
+import com.api.boleteria.event.FunctionDeletedEvent;
+import com.api.boleteria.event.TicketsPurchasedEvent;
+import com.api.boleteria.event.TicketsRefundedEvent;
+import com.api.boleteria.repository.ICinemaDailySalesRepository;
+import com.api.boleteria.repository.IFunctionSalesRepository;
+import com.api.boleteria.repository.IMovieDailySalesRepository;
+import com.api.boleteria.repository.ITicketRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Mantiene las tablas de ventas pre-agregadas (por película y día, por sala y día, y por función).
+ *
+ * Cada compra o reintegro suma o resta sus valores con un único INSERT ... ON DUPLICATE KEY UPDATE
+ * por tabla, dentro de la misma transacción de la operación (antes del commit), por lo que
+ * los totales nunca quedan desfasados respecto de los tickets. Al eliminar una película o una sala
+ * (sin reintegros), sus tickets se descuentan de la otra dimensión con una única sentencia agrupada
+ * y se borran sus propias filas, antes de que la eliminación en cascada borre los tickets.
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    private final IMovieDailySalesRepository movieDailySalesRepo;
+    private final ICinemaDailySalesRepository cinemaDailySalesRepo;
+    private final IFunctionSalesRepository functionSalesRepo;
+    private final ITicketRepository ticketRepo;
+
+
+    //-------------------------------LOAD--------------------------------//
+
+    /**
+     * Si las tablas de ventas están vacías pero ya hay tickets vendidos (por ejemplo, en la primera
+     * ejecución con esta versión), las reconstruye a partir de los tickets existentes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (functionSalesRepo.count() > 0 || ticketRepo.count() == 0) {
+            return;
+        }
+        movieDailySalesRepo.rebuildFromTickets();
+        cinemaDailySalesRepo.rebuildFromTickets();
+        functionSalesRepo.rebuildFromTickets();
+    }
+
+
+    //-------------------------------EVENTS--------------------------------//
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(TicketsPurchasedEvent event) {
+        var day = event.purchaseDateTime().toLocalDate();
+        movieDailySalesRepo.add(event.movieId(), day, event.quantity(), event.totalAmount());
+        cinemaDailySalesRepo.add(event.cinemaId(), day, event.quantity(), event.totalAmount());
+        functionSalesRepo.add(event.functionId(), event.movieId(), event.cinemaId(), event.showtime(),
+                event.seatCapacity(), event.quantity(), event.totalAmount());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(TicketsRefundedEvent event) {
+        movieDailySalesRepo.add(event.movieId(), event.purchaseDate(), -event.quantity(), -event.totalAmount());
+        cinemaDailySalesRepo.add(event.cinemaId(), event.purchaseDate(), -event.quantity(), -event.totalAmount());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(FunctionDeletedEvent event) {
+        functionSalesRepo.deleteById(event.functionId());
+    }
+
+
+
+    //-------------------------------DELETE--------------------------------//
+
+    /**
+     * Quita de las ventas acumuladas los tickets de una película que se va a eliminar.
+     * Debe llamarse dentro de la transacción de la baja y antes de borrar la película, mientras sus tickets existen.
+     *
+     * @param movieId ID de la película.
+     */
+    @Transactional
+    public void removeMovie(Long movieId) {
+        cinemaDailySalesRepo.subtractMovie(movieId);
+        movieDailySalesRepo.deleteByMovieId(movieId);
+        functionSalesRepo.deleteByMovieId(movieId);
+    }
+
+    /**
+     * Quita de las ventas acumuladas los tickets de una sala que se va a eliminar.
+     * Debe llamarse dentro de la transacción de la baja y antes de borrar la sala, mientras sus tickets existen.
+     *
+     * @param cinemaId ID de la sala.
+     */
+    @Transactional
+    public void removeCinema(Long cinemaId) {
+        movieDailySalesRepo.subtractCinema(cinemaId);
+        cinemaDailySalesRepo.deleteByCinemaId(cinemaId);
+        functionSalesRepo.deleteByCinemaId(cinemaId);
+    }
+}
@@ -0,0 +1,175 @@
+package com.api.boleteria.service;
+
+import com.api.boleteria.dto.detail.SeatAvailabilityDetailDTO;
+import com.api.boleteria.event.FunctionDeletedEvent;
+import com.api.boleteria.event.FunctionsSavedEvent;
+import com.api.boleteria.event.TicketsPurchasedEvent;
+import com.api.boleteria.event.TicketsRefundedEvent;
+import com.api.boleteria.model.Function;
+import com.api.boleteria.repository.IFunctionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Servicio que publica por Server-Sent Events la capacidad disponible de las funciones.
+ *
+ * Los cambios de capacidad (compras, reintegros y actualizaciones de la función) se acumulan por
+ * función conservando el último valor, y se envían en el siguiente ciclo de publicación, por lo que
+ * cada función emite como máximo un mensaje por intervalo sin importar cuántos cambios ocurran.
+ * El mensaje se serializa una sola vez y se reparte a todos los suscriptores de la función.
+ *
+ * El registro y la baja de suscriptores se realizan dentro de operaciones atómicas del mapa, por lo que
+ * un suscriptor nuevo nunca queda en un conjunto que ya fue descartado. Las consultas a la base y los
+ * envíos se hacen fuera de esas operaciones, para no bloquear el mapa mientras dura la E/S.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatAvailabilityService {
+
+    private final FunctionService functionService;
+    private final IFunctionRepository functionRepo;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.seats.stream-timeout-ms:1800000}")
+    private long streamTimeout;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> pending = new ConcurrentHashMap<>();
+
+
+    //-------------------------------SUBSCRIBE--------------------------------//
+
+    /**
+     * Suscribe un cliente a los cambios de capacidad de una función.
+     * El primer mensaje enviado contiene la capacidad actual.
+     *
+     * @param functionId ID de la función.
+     * @return SseEmitter asociado a la suscripción.
+     * @throws com.api.boleteria.exception.NotFoundException si la función no existe o su sala está deshabilitada.
+     */
+    public SseEmitter subscribe(Long functionId) {
+        Integer capacity = functionService.findById(functionId).availableCapacity();
+        SseEmitter emitter = new SseEmitter(streamTimeout);
+
+        // Un cambio confirmado después de la lectura queda pendiente y se envía, ya con el emisor registrado,
+        // en el siguiente ciclo.
+        subscribers.compute(functionId, (id, emitters) -> {
+            Set<SseEmitter> current = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            current.add(emitter);
+            return current;
+        });
+        if (!send(emitter, toJson(new SeatAvailabilityDetailDTO(functionId, capacity, true)))) {
+            unsubscribe(functionId, emitter);
+        }
+
+        emitter.onCompletion(() -> unsubscribe(functionId, emitter));
+        emitter.onTimeout(() -> unsubscribe(functionId, emitter));
+        emitter.onError(e -> unsubscribe(functionId, emitter));
+        return emitter;
+    }
+
+
+    //-------------------------------EVENTS--------------------------------//
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TicketsPurchasedEvent event) {
+        pending.put(event.functionId(), event.remainingCapacity());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(FunctionsSavedEvent event) {
+        for (Function function : event.functions()) {
+            pending.put(function.getId(), function.getAvailableCapacity());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TicketsRefundedEvent event) {
+        if (subscribers.containsKey(event.functionId())) {
+            functionRepo.findById(event.functionId())
+                    .ifPresent(function -> pending.put(function.getId(), function.getAvailableCapacity()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(FunctionDeletedEvent event) {
+        pending.remove(event.functionId());
+        Set<SseEmitter> emitters = subscribers.remove(event.functionId());
+        if (emitters == null) {
+            return;
+        }
+        String json = toJson(new SeatAvailabilityDetailDTO(event.functionId(), 0, false));
+        for (SseEmitter emitter : emitters) {
+            send(emitter, json);
+            emitter.complete();
+        }
+    }
+
+
+    //-------------------------------PUBLISH--------------------------------//
+
+    /**
+     * Envía a los suscriptores la última capacidad de cada función modificada desde el ciclo anterior.
+     * Los cambios de funciones sin suscriptores se descartan.
+     */
+    @Scheduled(fixedRateString = "${app.seats.push-interval-ms:250}")
+    public void flush() {
+        for (Long functionId : pending.keySet()) {
+            Integer capacity = pending.remove(functionId);
+            if (capacity == null) {
+                continue;
+            }
+            Set<SseEmitter> emitters = subscribers.get(functionId);
+            if (emitters == null) {
+                continue;
+            }
+            String json = toJson(new SeatAvailabilityDetailDTO(functionId, capacity, true));
+            for (SseEmitter emitter : emitters) {
+                if (!send(emitter, json)) {
+                    unsubscribe(functionId, emitter);
+                }
+            }
+        }
+    }
+
+    /**
+     * Envía un mensaje a un suscriptor.
+     *
+     * @return false si el suscriptor ya no está conectado y debe darse de baja.
+     */
+    private boolean send(SseEmitter emitter, String json) {
+        try {
+            emitter.send(SseEmitter.event().name("seats").data(json, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private void unsubscribe(Long functionId, SseEmitter emitter) {
+        subscribers.computeIfPresent(functionId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private String toJson(SeatAvailabilityDetailDTO dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la disponibilidad de asientos.", e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.api.boleteria.service;
 
 import com.api.boleteria.dto.detail.TicketDetailDTO;
 import com.api.boleteria.dto.request.TicketRequestDTO;
+import com.api.boleteria.event.TicketsPurchasedEvent;
 import com.api.boleteria.exception.AccessDeniedExceptionPeronalized;
 import com.api.boleteria.exception.BadRequestException;
 import com.api.boleteria.exception.NotFoundException;
@@ -14,14 +15,23 @@ import com.api.boleteria.repository.ITicketRepository;
 import com.api.boleteria.repository.IFunctionRepository;
 import com.api.boleteria.repository.IUserRepository;
 import com.api.boleteria.validators.TicketValidator;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 
 
 import java.nio.file.AccessDeniedException;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 /**
@@ -36,6 +46,8 @@ public class TicketService {
     private final IUserRepository userRepository;
     private final IFunctionRepository functionRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
     public static final double TICKET_PRICE = 2500.0;
 
@@ -60,10 +72,11 @@ public class TicketService {
      * @throws BadRequestException si no hay capacidad suficiente o fondos en la tarjeta.
      */
     @Transactional
+    @Timed(value = "boleteria.tickets.buy", description = "Compra de tickets", histogram = true)
     public List<TicketDetailDTO> buyTickets(TicketRequestDTO dto) {
         TicketValidator.validateFields(dto);
 
-        User user = userService.findAuthenticatedUser();
+        User user = userService.findAuthenticatedUserReference();
 
         Function function = functionRepository.findById(dto.getFunctionId())
                 .orElseThrow(() -> new NotFoundException("Función no encontrada."));
@@ -75,7 +88,7 @@ public class TicketService {
         TicketValidator.validateCapacity(function, dto.getQuantity());
 
         Card card = cardRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new NotFoundException("El usuario " + user.getUsername() + " no tiene una tarjeta registrada."));
+                .orElseThrow(() -> new NotFoundException("El usuario " + userService.findAuthenticatedUsername() + " no tiene una tarjeta registrada."));
 
         TicketValidator.validateCardBalance(card, dto.getQuantity());
 
@@ -86,15 +99,24 @@ public class TicketService {
         cardRepository.save(card);
         functionRepository.save(function);
 
+        LocalDateTime purchaseDateTime = LocalDateTime.now();
         List<Ticket> createdTickets = IntStream.range(0, dto.getQuantity())
-                .mapToObj(i -> {
-                    Ticket ticket = mapToEntity(user, function);
-                    function.getTickets().add(ticket); // setteo la relacion en ambos lados
-                    user.getTickets().add(ticket); // setteo la relacion en ambosl ados
-                    return ticketRepository.save(ticket);
-                })
+                .mapToObj(i -> mapToEntity(user, function, purchaseDateTime))
                 .toList();
-
+        insertAll(createdTickets);
+
+        eventPublisher.publishEvent(new TicketsPurchasedEvent(
+                user.getId(),
+                function.getId(),
+                function.getMovie().getId(),
+                function.getCinema().getId(),
+                dto.getQuantity(),
+                totalAmount,
+                function.getAvailableCapacity(),
+                purchaseDateTime,
+                function.getShowtime(),
+                function.getCinema().getSeatCapacity(),
+                createdTickets.stream().map(Ticket::getId).toList()));
 
         return createdTickets.stream()
                 .map(this::mapToDetailDTO)
@@ -115,13 +137,11 @@ public class TicketService {
      * @throws NotFoundException si el usuario no tiene tickets asociados.
      */
     public List<TicketDetailDTO> findTicketsFromAuthenticatedUser() {
-        User user = userService.findAuthenticatedUser();
-
-        List<TicketDetailDTO> tickets = user.getTickets().stream()
+        List<TicketDetailDTO> tickets = ticketRepository.findByUserId(userService.findAuthenticatedUserId()).stream()
                 .map(this::mapToDetailDTO)
                 .toList();
         if (tickets.isEmpty()) {
-            throw new NotFoundException("El usuario " + user.getUsername() + " no tiene tickets asociados.");
+            throw new NotFoundException("El usuario " + userService.findAuthenticatedUsername() + " no tiene tickets asociados.");
         }
 
         return tickets;
@@ -138,12 +158,12 @@ public class TicketService {
      * @throws AccessDeniedExceptionPeronalized si el ticket no pertenece al usuario autenticado.
      */
     public TicketDetailDTO findTicketById(Long ticketId) {
-        User user = userService.findAuthenticatedUser();
+        Long userId = userService.findAuthenticatedUserId();
         TicketValidator.validateTicketId(ticketId);
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new NotFoundException("No se encontró el ticket con ID: " + ticketId));
 
-        if (!ticket.getUser().getId().equals(user.getId())) {
+        if (!ticket.getUser().getId().equals(userId)) {
             throw new AccessDeniedExceptionPeronalized("No tiene permiso para ver este ticket.");
         }
 
@@ -152,6 +172,40 @@ public class TicketService {
 
 
 
+    //-------------------------------INSERT--------------------------------//
+
+    /**
+     * Inserta los tickets de una compra con un único INSERT de varias filas y les asigna los IDs generados.
+     *
+     * Con IDs IDENTITY, Hibernate ejecuta un INSERT por ticket aun con saveAll; los tickets quedan fuera
+     * del contexto de persistencia, por lo que la colección de tickets de la función no se carga ni se modifica.
+     *
+     * @param tickets tickets nuevos, todos de la misma compra.
+     */
+    private void insertAll(List<Ticket> tickets) {
+        String values = String.join(", ", Collections.nCopies(tickets.size(), "(?, ?, ?, ?)"));
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO tickets (ticket_price, purchase_date_time, user_id, function_id) VALUES " + values,
+                    new String[]{"id"});
+            int index = 1;
+            for (Ticket ticket : tickets) {
+                statement.setDouble(index++, ticket.getTicketPrice());
+                statement.setTimestamp(index++, Timestamp.valueOf(ticket.getPurchaseDateTime()));
+                statement.setLong(index++, ticket.getUser().getId());
+                statement.setLong(index++, ticket.getFunction().getId());
+            }
+            return statement;
+        }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < tickets.size(); i++) {
+            tickets.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+
     //-------------------------------MAPS--------------------------------//
 
     /**
@@ -173,14 +227,15 @@ public class TicketService {
     /**
      * Mapea los datos necesarios para crear una entidad Ticket a partir de un usuario y una función.
      *
-     * @param user     Usuario que compra el ticket.
-     * @param function Función asociada al ticket.
+     * @param user             Usuario que compra el ticket.
+     * @param function         Función asociada al ticket.
+     * @param purchaseDateTime Fecha y hora de la compra.
      * @return Nueva instancia de Ticket con los datos seteados.
      */
-    private Ticket mapToEntity(User user, Function function) {
+    private Ticket mapToEntity(User user, Function function, LocalDateTime purchaseDateTime) {
         Ticket ticket = new Ticket();
         ticket.setTicketPrice(TICKET_PRICE);
-        ticket.setPurchaseDateTime(LocalDateTime.now());
+        ticket.setPurchaseDateTime(purchaseDateTime);
         ticket.setUser(user);
         ticket.setFunction(function);
         return ticket;
@@ -1,5 +1,7 @@
 package com.api.boleteria.service;
 
+import com.api.boleteria.config.AuthenticatedPrincipal;
+import com.api.boleteria.config.AuthenticatedUserDetails;
 import com.api.boleteria.config.JwtUtil;
 import com.api.boleteria.dto.detail.UserDetailDTO;
 import com.api.boleteria.dto.list.UserListDTO;
@@ -11,6 +13,8 @@ import com.api.boleteria.model.enums.Role;
 import com.api.boleteria.model.User; //
 import com.api.boleteria.repository.IUserRepository; //
 import com.api.boleteria.validators.UserValidator; //
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -36,6 +40,8 @@ public class UserService implements UserDetailsService {
 
     private final IUserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
 
 
     //-------------------------------SAVE--------------------------------//
@@ -128,12 +134,51 @@ public class UserService implements UserDetailsService {
      * @throws NotFoundException si el usuario no existe.
      */
     public User findAuthenticatedUser() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        Long id = authenticatedId();
+        if (id != null) {
+            return userRepository.findById(id)
+                    .orElseThrow(() -> new NotFoundException("Usuario con ID: " + id + " no encontrado."));
+        }
 
+        String username = findAuthenticatedUsername();
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new NotFoundException("Usuario con nombre de usuario: " + username + " no encontrado."));
     }
 
+    /**
+     * Obtiene el ID del usuario autenticado. Si el token lo incluye no consulta la base de datos.
+     *
+     * @return ID del usuario autenticado.
+     * @throws NotFoundException si el usuario no existe.
+     */
+    public Long findAuthenticatedUserId() {
+        Long id = authenticatedId();
+        return id != null ? id : findAuthenticatedUser().getId();
+    }
+
+    /**
+     * Obtiene una referencia al usuario autenticado sin cargarlo, para asociarlo a otras entidades.
+     *
+     * @return Referencia (proxy) a la entidad User del usuario autenticado.
+     */
+    public User findAuthenticatedUserReference() {
+        return userRepository.getReferenceById(findAuthenticatedUserId());
+    }
+
+    /**
+     * Obtiene el nombre de usuario del usuario autenticado.
+     *
+     * @return Nombre de usuario contenido en el token.
+     */
+    public String findAuthenticatedUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    private Long authenticatedId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return principal instanceof AuthenticatedPrincipal authenticated ? authenticated.id() : null;
+    }
+
 
 
     //-------------------------------UPDATE--------------------------------//
@@ -141,10 +186,15 @@ public class UserService implements UserDetailsService {
     /**
      * Actualización de usuario autenticado.
      *
+     * Si la contraseña cambió, revoca todos sus refresh tokens, incluido el de la sesión que hace la solicitud:
+     * el token de acceso vigente sigue valiendo hasta expirar, pero para renovarlo hay que volver a iniciar
+     * sesión con la nueva contraseña. Si la contraseña no cambió, las sesiones abiertas se mantienen.
+     *
      * @param req DTO del usuario con cambios realizados.
      * @return UserDetailDTO con la información actualizada del usuario especificado.
      * @throws BadRequestException si el nuevo username o email ya están en uso por otro usuario.
      */
+    @Transactional
     public UserDetailDTO update(RegisterRequestDTO req) {
         User user = findAuthenticatedUser();
         UserValidator.validateFields(req);
@@ -159,9 +209,13 @@ public class UserService implements UserDetailsService {
             throw new BadRequestException("El email '" + req.getEmail() + "' ya está registrado por otro usuario."); //
         }
 
+        boolean passwordChanged = !passwordEncoder.matches(req.getPassword(), user.getPassword());
         updateEntityFromDto(req, user);
 
         User updated = userRepository.save(user);
+        if (passwordChanged) {
+            refreshTokenService.revokeAll(updated.getId());
+        }
         return mapToDetailDTO(updated);
     }
 
@@ -206,7 +260,8 @@ public class UserService implements UserDetailsService {
 
         GrantedAuthority authority = new SimpleGrantedAuthority(user.getRole().getRoleName());
 
-        return new org.springframework.security.core.userdetails.User(
+        return new AuthenticatedUserDetails(
+                user.getId(),
                 user.getUsername(),
                 user.getPassword(),
                 List.of(authority)
@@ -215,25 +270,30 @@ public class UserService implements UserDetailsService {
 
     /**
      * Realiza el proceso de login autenticando al usuario y generando un token JWT si las credenciales son válidas.
+     * Además emite un refresh token para renovar el token JWT sin volver a enviar la contraseña.
      *
      * @param req DTO con los datos de login (username y password).
      * @param authManager AuthenticationManager configurado por Spring Security.
-     * @return Mapa con el token JWT generado.
+     * @return Mapa con el token JWT (token) y el refresh token (refreshToken) generados.
      */
+    @Timed(value = "boleteria.users.login", description = "Inicio de sesión", histogram = true)
     public Map<String, String> login(LoginRequestDTO req, AuthenticationManager authManager) {
         Authentication auth = authManager.authenticate(
                 new UsernamePasswordAuthenticationToken(req.getUsername(), req.getPassword())
         );
 
-        UserDetails user = (UserDetails) auth.getPrincipal();
-        String jwt = JwtUtil.createToken(
+        AuthenticatedUserDetails user = (AuthenticatedUserDetails) auth.getPrincipal();
+        String jwt = jwtUtil.createToken(
+                user.getId(),
                 user.getUsername(),
                 user.getAuthorities().stream()
                         .map(a -> a.getAuthority().replace("ROLE_", ""))
                         .collect(Collectors.toList())
         );
 
-        return Map.of("token", jwt);
+        return Map.of(
+                "token", jwt,
+                "refreshToken", refreshTokenService.issue(user.getId()));
     }
 
 
@@ -1,6 +1,7 @@
 package com.api.boleteria.validators;
 
 import com.api.boleteria.dto.request.FunctionRequestDTO;
+import com.api.boleteria.dto.request.FunctionSearchRequestDTO;
 import com.api.boleteria.exception.BadRequestException;
 import com.api.boleteria.model.Cinema;
 import com.api.boleteria.model.Function;
@@ -23,6 +24,21 @@ public class FunctionValidator {
         validateMovieId(dto.getMovieId());
     }
 
+    /**
+     * Valida los criterios de búsqueda de funciones.
+     *
+     * @param dto DTO con los criterios de búsqueda.
+     * @throws BadRequestException si el rango de fechas es inválido o la cantidad de asientos no es positiva.
+     */
+    public static void validateSearch(FunctionSearchRequestDTO dto) {
+        if (dto.getFrom() != null && dto.getTo() != null && dto.getTo().isBefore(dto.getFrom())) {
+            throw new BadRequestException("La fecha final de búsqueda no puede ser anterior a la inicial.");
+        }
+        if (dto.getMinSeats() != null && dto.getMinSeats() <= 0) {
+            throw new BadRequestException("La cantidad mínima de asientos libres debe ser positiva.");
+        }
+    }
+
     /**
      * Valida la fecha y hora de la función.
      *
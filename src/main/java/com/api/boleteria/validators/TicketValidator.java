@@ -2,6 +2,8 @@ package com.api.boleteria.validators;
 
 import com.api.boleteria.dto.request.TicketRequestDTO;
 import com.api.boleteria.exception.BadRequestException;
+import com.api.boleteria.exception.InsufficientFundsException;
+import com.api.boleteria.exception.SoldOutException;
 import com.api.boleteria.model.Card;
 import com.api.boleteria.model.Function;
 
@@ -35,11 +37,11 @@ public class TicketValidator {
      *
      * @param function          La función para la cual se están comprando tickets.
      * @param requestedQuantity Cantidad de tickets solicitados.
-     * @throws BadRequestException si no hay suficientes entradas disponibles.
+     * @throws SoldOutException si no hay suficientes entradas disponibles.
      */
     public static void validateCapacity(Function function, int requestedQuantity) {
         if (function.getAvailableCapacity() < requestedQuantity) {
-            throw new BadRequestException("No hay suficientes entradas disponibles. Solo quedan: " + function.getAvailableCapacity() + ".");
+            throw new SoldOutException("No hay suficientes entradas disponibles. Solo quedan: " + function.getAvailableCapacity() + ".");
         }
     }
 
@@ -48,12 +50,12 @@ public class TicketValidator {
      *
      * @param card              Tarjeta del usuario.
      * @param requestedQuantity Cantidad de tickets solicitados.
-     * @throws BadRequestException si el saldo de la tarjeta es insuficiente.
+     * @throws InsufficientFundsException si el saldo de la tarjeta es insuficiente.
      */
     public static void validateCardBalance(Card card, int requestedQuantity) {
         double total = TICKET_PRICE * requestedQuantity;
         if (card.getBalance() < total) {
-            throw new BadRequestException("Fondos insuficientes en la tarjeta. Total requerido: $" + total);
+            throw new InsufficientFundsException("Fondos insuficientes en la tarjeta. Total requerido: $" + total);
         }
     }
 
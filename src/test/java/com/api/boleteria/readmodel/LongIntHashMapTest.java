@@ -0,0 +1,136 @@
+package com.api.boleteria.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+	/** Capacidad que resulta de pedir 8 entradas (8 / 0.6 redondeado a potencia de dos); no se redimensiona hasta 9. */
+	private static final int CAPACITY = 16;
+
+	@Test
+	void addToInsertsAccumulatesAndDropsZeroEntries() {
+		LongIntHashMap map = new LongIntHashMap();
+
+		assertEquals(3, map.addTo(42L, 3));
+		assertEquals(5, map.addTo(42L, 2));
+		assertEquals(1, map.addTo(-7L, 1));
+		assertEquals(2, map.size());
+		assertEquals(5, map.get(42L));
+		assertEquals(0, map.get(99L));
+		assertFalse(map.containsKey(99L));
+
+		assertEquals(0, map.addTo(-7L, -1));
+		assertFalse(map.containsKey(-7L));
+		assertEquals(1, map.size());
+
+		assertEquals(0, map.addTo(99L, 0));
+		assertFalse(map.containsKey(99L));
+	}
+
+	@Test
+	void removeReturnsPreviousValue() {
+		LongIntHashMap map = new LongIntHashMap();
+		map.addTo(1L, 10);
+		map.addTo(2L, 20);
+
+		assertEquals(10, map.remove(1L));
+		assertEquals(0, map.remove(1L));
+		assertFalse(map.containsKey(1L));
+		assertEquals(20, map.get(2L));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	void rejectsTheEmptyMarkerAsKey() {
+		LongIntHashMap map = new LongIntHashMap();
+		assertThrows(IllegalArgumentException.class, () -> map.addTo(Long.MIN_VALUE, 1));
+	}
+
+	@Test
+	void probingWrapsAroundTheEndOfTheTable() {
+		LongIntHashMap map = new LongIntHashMap(8);
+		List<Long> lastSlot = keysWithHome(CAPACITY - 1, 3);
+		long first = lastSlot.get(0);
+		long second = lastSlot.get(1);
+		long third = lastSlot.get(2);
+
+		// Las tres claves empiezan en el último casillero: la segunda y la tercera pasan a los casilleros 0 y 1.
+		map.addTo(first, 1);
+		map.addTo(second, 2);
+		map.addTo(third, 3);
+		assertEquals(1, map.get(first));
+		assertEquals(2, map.get(second));
+		assertEquals(3, map.get(third));
+
+		// Al eliminar la primera, las siguientes se desplazan hacia atrás cruzando el final de la tabla.
+		assertEquals(1, map.remove(first));
+		assertFalse(map.containsKey(first));
+		assertEquals(2, map.get(second));
+		assertEquals(3, map.get(third));
+
+		assertEquals(2, map.remove(second));
+		assertEquals(3, map.get(third));
+		assertEquals(1, map.size());
+
+		map.addTo(first, 4);
+		assertEquals(4, map.get(first));
+		assertEquals(3, map.get(third));
+	}
+
+	@Test
+	void removalKeepsKeysFromOtherProbeSequencesReachable() {
+		LongIntHashMap map = new LongIntHashMap(8);
+		List<Long> lastSlot = keysWithHome(CAPACITY - 1, 2);
+		long wrapped = lastSlot.get(1);
+		long homeZero = keysWithHome(0, 1).get(0);
+
+		// wrapped ocupa el casillero 0 (dio la vuelta) y homeZero, cuyo casillero inicial es 0, queda en el 1.
+		map.addTo(lastSlot.get(0), 1);
+		map.addTo(wrapped, 2);
+		map.addTo(homeZero, 3);
+
+		map.remove(wrapped);
+		assertEquals(1, map.get(lastSlot.get(0)));
+		assertEquals(3, map.get(homeZero));
+
+		map.remove(lastSlot.get(0));
+		assertEquals(3, map.get(homeZero));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	void matchesHashMapAcrossResizesAndRemovals() {
+		LongIntHashMap map = new LongIntHashMap();
+		Map<Long, Integer> expected = new HashMap<>();
+		for (long key = 0; key < 1_000; key++) {
+			map.addTo(key * 31, (int) key + 1);
+			expected.put(key * 31, (int) key + 1);
+		}
+		for (long key = 0; key < 1_000; key += 3) {
+			map.remove(key * 31);
+			expected.remove(key * 31);
+		}
+
+		assertEquals(expected.size(), map.size());
+		Map<Long, Integer> actual = new HashMap<>();
+		map.forEach(actual::put);
+		assertEquals(expected, actual);
+	}
+
+	private static List<Long> keysWithHome(int slot, int count) {
+		List<Long> keys = new ArrayList<>();
+		for (long key = 1; keys.size() < count; key++) {
+			if ((LongIntHashMap.mix(key) & (CAPACITY - 1)) == slot) {
+				keys.add(key);
+			}
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,88 @@
+package com.api.boleteria.readmodel;
+
+import com.api.boleteria.event.TicketsPurchasedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que la carga inicial de los rankings tome los tickets de la última semana desde la base,
+ * respetando cada ventana, y que las compras posteriores se sumen sin contarse dos veces.
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class TrendingMoviesSeedTest {
+
+	private static final long MOVIE_ID = 830L;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("INSERT INTO movies (id, classification, director, duration, movie_genre, synopsis, title) "
+				+ "VALUES (830, 'ATP', 'Director', 100, 'Drama', 'Sinopsis', 'Película 830')");
+		jdbcTemplate.update("INSERT INTO cinemas (id, atmos, enabled, name, screen_type, seat_capacity) "
+				+ "VALUES (830, false, true, 'Sala 830', 'STANDARD', 100)");
+		jdbcTemplate.update("INSERT INTO functions (id, available_capacity, cinema_id, movie_id, showtime) VALUES (830, 100, 830, 830, ?)",
+				Timestamp.valueOf(LocalDateTime.now().plusDays(3)));
+
+		LocalDateTime now = LocalDateTime.now();
+		insertTicket(830, now.minusMinutes(10));
+		insertTicket(831, now.minusMinutes(20));
+		insertTicket(832, now.minusHours(5));
+		insertTicket(833, now.minusDays(3));
+		insertTicket(834, now.minusDays(8));
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM tickets WHERE function_id = 830");
+		jdbcTemplate.update("DELETE FROM functions WHERE id = 830");
+		jdbcTemplate.update("DELETE FROM cinemas WHERE id = 830");
+		jdbcTemplate.update("DELETE FROM movies WHERE id = 830");
+	}
+
+	@Test
+	void seedLoadsTheLastWeekAndLaterPurchasesAreCountedOnce() {
+		TrendingMovies trending = new TrendingMovies(jdbcTemplate);
+		// Un ticket guardado después de iniciar el componente no entra en la carga: llega solo por evento.
+		insertTicket(835, LocalDateTime.now());
+
+		trending.seed();
+		assertEquals(2, tickets(trending, TrendingMovies.Window.HOUR));
+		assertEquals(3, tickets(trending, TrendingMovies.Window.DAY));
+		assertEquals(4, tickets(trending, TrendingMovies.Window.WEEK));
+
+		LocalDateTime showtime = LocalDateTime.now().plusDays(3);
+		trending.on(new TicketsPurchasedEvent(null, 830L, MOVIE_ID, 830L, 1, 1000, 99,
+				LocalDateTime.now(), showtime, 100, List.of(835L)));
+		trending.refresh();
+		assertEquals(3, tickets(trending, TrendingMovies.Window.HOUR));
+		assertEquals(5, tickets(trending, TrendingMovies.Window.WEEK));
+	}
+
+	private long tickets(TrendingMovies trending, TrendingMovies.Window window) {
+		List<TrendingMovies.Trend> top = trending.top(window, TrendingMovies.MAX_SIZE);
+		return top.stream()
+				.filter(trend -> trend.movieId() == MOVIE_ID)
+				.mapToLong(TrendingMovies.Trend::tickets)
+				.findFirst()
+				.orElse(0);
+	}
+
+	private void insertTicket(long id, LocalDateTime purchasedAt) {
+		jdbcTemplate.update("INSERT INTO tickets (id, purchase_date_time, ticket_price, function_id) VALUES (?, ?, 1000, 830)",
+				id, Timestamp.valueOf(purchasedAt));
+	}
+}
@@ -0,0 +1,129 @@
+package com.api.boleteria.service;
+
+import com.api.boleteria.exception.InvalidRefreshTokenException;
+import com.api.boleteria.model.RefreshToken;
+import com.api.boleteria.repository.IRefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifica la rotación de refresh tokens: un token se puede usar una sola vez, y reutilizarlo revoca su familia.
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class RefreshTokenServiceTest {
+
+	private static final long USER_ID = 810L;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private RefreshTokenService refreshTokenService;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("INSERT INTO users (id, name, surname, username, email, password, role) "
+				+ "VALUES (?, 'Ana', 'Gómez', 'refresh', 'refresh@test.com', 'x', 'CLIENT')", USER_ID);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id = ?", USER_ID);
+		jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+	}
+
+	@Test
+	void refreshRotatesTheToken() {
+		String issued = refreshTokenService.issue(USER_ID);
+
+		Map<String, String> renewed = refreshTokenService.refresh(issued);
+
+		assertNotNull(renewed.get("token"));
+		assertNotEquals(issued, renewed.get("refreshToken"));
+		assertNotNull(refreshTokenService.refresh(renewed.get("refreshToken")).get("refreshToken"));
+	}
+
+	@Test
+	void reusingARotatedTokenRevokesTheWholeFamily() {
+		String issued = refreshTokenService.issue(USER_ID);
+		String other = refreshTokenService.issue(USER_ID);
+		String renewed = refreshTokenService.refresh(issued).get("refreshToken");
+
+		assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(issued));
+
+		// El token emitido en la rotación pertenece a la familia comprometida y quedó revocado.
+		assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(renewed));
+		// Las sesiones de otras familias no se ven afectadas.
+		assertNotNull(refreshTokenService.refresh(other).get("refreshToken"));
+	}
+
+	@Test
+	void losingTheMarkUsedRaceIsTreatedAsReuse() {
+		// La solicitud leyó el token sin usar, pero otra lo marcó como usado antes que ella.
+		IRefreshTokenRepository repository = mock(IRefreshTokenRepository.class);
+		RefreshToken token = new RefreshToken(1L, "hash", USER_ID, "familia",
+				LocalDateTime.now(), LocalDateTime.now().plusDays(1), false);
+		when(repository.findByTokenHash(anyString())).thenReturn(Optional.of(token));
+		when(repository.markUsed(1L)).thenReturn(0);
+		RefreshTokenService service = new RefreshTokenService(repository, null, null, null);
+
+		assertThrows(InvalidRefreshTokenException.class, () -> service.refresh("token"));
+
+		verify(repository).revokeFamily("familia");
+		verify(repository, never()).save(any());
+	}
+
+	@Test
+	void concurrentRefreshesOfTheSameTokenLetOnlyOneThrough() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int round = 0; round < 20; round++) {
+				String issued = refreshTokenService.issue(USER_ID);
+				CyclicBarrier barrier = new CyclicBarrier(2);
+				List<Future<String>> attempts = new ArrayList<>();
+				for (int i = 0; i < 2; i++) {
+					attempts.add(executor.submit(() -> {
+						barrier.await();
+						return refreshTokenService.refresh(issued).get("refreshToken");
+					}));
+				}
+
+				List<String> renewed = new ArrayList<>();
+				int rejected = 0;
+				for (Future<String> attempt : attempts) {
+					try {
+						renewed.add(attempt.get(10, TimeUnit.SECONDS));
+					} catch (ExecutionException e) {
+						assertInstanceOf(InvalidRefreshTokenException.class, e.getCause());
+						rejected++;
+					}
+				}
+
+				assertEquals(1, renewed.size(), "Ronda " + round + ": el token se usó más de una vez.");
+				assertEquals(1, rejected);
+				// La solicitud rechazada se trata como reutilización: el token emitido a la otra también queda revocado.
+				assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(renewed.get(0)));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package com.api.boleteria.service;
+
+import com.api.boleteria.config.AuthenticatedPrincipal;
+import com.api.boleteria.dto.request.TicketRequestDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que al eliminar una película o una sala las ventas acumuladas sigan coincidiendo con los tickets
+ * restantes, sin reintegrar el saldo de los tickets eliminados.
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class SalesRollupDeleteTest {
+
+	private static final long USER_ID = 820L;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private MovieService movieService;
+
+	@Autowired
+	private CinemaService cinemaService;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("INSERT INTO users (id, name, surname, username, email, password, role) "
+				+ "VALUES (?, 'Ana', 'Gómez', 'rollups', 'rollups@test.com', 'x', 'CLIENT')", USER_ID);
+		jdbcTemplate.update("INSERT INTO card (id, balance, card_number, card_type, cardholder_name, cvv, expiration_date, issue_date, user_id) "
+				+ "VALUES (820, 100000, '4111111111111111', 'DEBIT', 'Ana Gómez', '123', '12/30', '01/20', ?)", USER_ID);
+		jdbcTemplate.update("INSERT INTO movies (id, classification, director, duration, movie_genre, synopsis, title) "
+				+ "VALUES (820, 'ATP', 'Director', 100, 'Drama', 'Sinopsis', 'Película 820'), "
+				+ "(821, 'ATP', 'Director', 100, 'Drama', 'Sinopsis', 'Película 821')");
+		jdbcTemplate.update("INSERT INTO cinemas (id, atmos, enabled, name, screen_type, seat_capacity) "
+				+ "VALUES (820, false, true, 'Sala 820', 'STANDARD', 100), (821, false, true, 'Sala 821', 'STANDARD', 100)");
+		Timestamp showtime = Timestamp.valueOf(LocalDateTime.now().plusDays(3));
+		jdbcTemplate.update("INSERT INTO functions (id, available_capacity, cinema_id, movie_id, showtime) "
+				+ "VALUES (820, 100, 820, 820, ?), (821, 100, 821, 820, ?), (822, 100, 820, 821, ?), (823, 100, 821, 821, ?)",
+				showtime, showtime, showtime, showtime);
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				new AuthenticatedPrincipal(USER_ID, "rollups"), null, List.of(new SimpleGrantedAuthority("ROLE_CLIENT"))));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		jdbcTemplate.update("DELETE FROM tickets WHERE user_id = ?", USER_ID);
+		jdbcTemplate.update("DELETE FROM function_sales WHERE movie_id IN (820, 821)");
+		jdbcTemplate.update("DELETE FROM movie_daily_sales WHERE movie_id IN (820, 821)");
+		jdbcTemplate.update("DELETE FROM cinema_daily_sales WHERE cinema_id IN (820, 821)");
+		jdbcTemplate.update("DELETE FROM functions WHERE id BETWEEN 820 AND 823");
+		jdbcTemplate.update("DELETE FROM cinemas WHERE id IN (820, 821)");
+		jdbcTemplate.update("DELETE FROM movies WHERE id IN (820, 821)");
+		jdbcTemplate.update("DELETE FROM card WHERE id = 820");
+		jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+	}
+
+	@Test
+	void deletingAMovieAndThenACinemaKeepsRollupsInLineWithTickets() {
+		for (long functionId = 820; functionId <= 823; functionId++) {
+			buy(functionId, (int) (functionId - 818));
+		}
+		double balance = balance();
+		assertRollupsMatchTickets();
+
+		movieService.deleteById(820L);
+		assertRollupsMatchTickets();
+		assertEquals(0, count("SELECT COUNT(*) FROM movie_daily_sales WHERE movie_id = 820"));
+		assertEquals(balance, balance(), "La baja de una película no reintegra saldo.");
+
+		cinemaService.deleteById(820L);
+		assertRollupsMatchTickets();
+		assertEquals(0, count("SELECT COUNT(*) FROM cinema_daily_sales WHERE cinema_id = 820"));
+		assertEquals(balance, balance(), "La baja de una sala no reintegra saldo.");
+	}
+
+	private void assertRollupsMatchTickets() {
+		assertEquals(fromTickets("f.movie_id"), rollup("movie_daily_sales", "movie_id"));
+		assertEquals(fromTickets("f.cinema_id"), rollup("cinema_daily_sales", "cinema_id"));
+		assertEquals(
+				jdbcTemplate.queryForList("SELECT DISTINCT function_id FROM tickets WHERE function_id BETWEEN 820 AND 823 "
+						+ "ORDER BY function_id", Long.class),
+				jdbcTemplate.queryForList("SELECT function_id FROM function_sales WHERE function_id BETWEEN 820 AND 823 "
+						+ "ORDER BY function_id", Long.class));
+	}
+
+	private List<Map<String, Object>> fromTickets(String column) {
+		return jdbcTemplate.queryForList("SELECT " + column + " AS id, COUNT(*) AS tickets FROM tickets t "
+				+ "JOIN functions f ON f.id = t.function_id WHERE " + column + " IN (820, 821) GROUP BY " + column + " ORDER BY " + column);
+	}
+
+	private List<Map<String, Object>> rollup(String table, String column) {
+		return jdbcTemplate.queryForList("SELECT " + column + " AS id, SUM(tickets_sold) AS tickets FROM " + table
+				+ " WHERE " + column + " IN (820, 821) GROUP BY " + column + " HAVING SUM(tickets_sold) > 0 ORDER BY " + column);
+	}
+
+	private void buy(long functionId, int quantity) {
+		TicketRequestDTO dto = new TicketRequestDTO();
+		dto.setFunctionId(functionId);
+		dto.setQuantity(quantity);
+		ticketService.buyTickets(dto);
+	}
+
+	private double balance() {
+		return jdbcTemplate.queryForObject("SELECT balance FROM card WHERE id = 820", Double.class);
+	}
+
+	private int count(String sql) {
+		return jdbcTemplate.queryForObject(sql, Integer.class);
+	}
+}
@@ -0,0 +1,93 @@
+package com.api.boleteria.service;
+
+import com.api.boleteria.config.AuthenticatedPrincipal;
+import com.api.boleteria.config.SqlStatistics;
+import com.api.boleteria.dto.request.TicketRequestDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que la compra de tickets ejecute una cantidad fija de sentencias SQL, sin importar la cantidad comprada.
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class TicketServiceStatementsTest {
+
+	private static final long USER_ID = 800L;
+	private static final long FUNCTION_ID = 800L;
+
+	/**
+	 * Sentencias máximas por compra: lectura de la función, de la tarjeta y de su usuario, un único INSERT de tickets,
+	 * UPDATE de tarjeta y función y los tres acumulados de ventas.
+	 */
+	private static final int STATEMENT_BUDGET = 9;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("INSERT INTO users (id, name, surname, username, email, password, role) "
+				+ "VALUES (?, 'Ana', 'Gómez', 'statements', 'statements@test.com', 'x', 'CLIENT')", USER_ID);
+		jdbcTemplate.update("INSERT INTO card (id, balance, card_number, card_type, cardholder_name, cvv, expiration_date, issue_date, user_id) "
+				+ "VALUES (800, 100000, '4111111111111111', 'DEBIT', 'Ana Gómez', '123', '12/30', '01/20', ?)", USER_ID);
+		jdbcTemplate.update("INSERT INTO movies (id, classification, director, duration, movie_genre, synopsis, title) "
+				+ "VALUES (800, 'ATP', 'Director', 100, 'Drama', 'Sinopsis', 'Película 800')");
+		jdbcTemplate.update("INSERT INTO cinemas (id, atmos, enabled, name, screen_type, seat_capacity) "
+				+ "VALUES (800, false, true, 'Sala 800', 'STANDARD', 100)");
+		jdbcTemplate.update("INSERT INTO functions (id, available_capacity, cinema_id, movie_id, showtime) VALUES (?, 100, 800, 800, ?)",
+				FUNCTION_ID, Timestamp.valueOf(LocalDateTime.now().plusDays(3)));
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				new AuthenticatedPrincipal(USER_ID, "statements"), null, List.of(new SimpleGrantedAuthority("ROLE_CLIENT"))));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		jdbcTemplate.update("DELETE FROM tickets WHERE function_id = ?", FUNCTION_ID);
+		jdbcTemplate.update("DELETE FROM function_sales WHERE function_id = ?", FUNCTION_ID);
+		jdbcTemplate.update("DELETE FROM movie_daily_sales WHERE movie_id = 800");
+		jdbcTemplate.update("DELETE FROM cinema_daily_sales WHERE cinema_id = 800");
+		jdbcTemplate.update("DELETE FROM functions WHERE id = ?", FUNCTION_ID);
+		jdbcTemplate.update("DELETE FROM cinemas WHERE id = 800");
+		jdbcTemplate.update("DELETE FROM movies WHERE id = 800");
+		jdbcTemplate.update("DELETE FROM card WHERE id = 800");
+		jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+	}
+
+	@Test
+	void buyTicketsRunsTheSameStatementsForOneAndFourTickets() {
+		SqlStatistics.Stats one = SqlStatistics.measure(() -> buy(1));
+		SqlStatistics.Stats four = SqlStatistics.measure(() -> buy(4));
+
+		assertEquals(one.statements(), four.statements(), "Sentencia más repetida: " + four.mostRepeated());
+		assertTrue(four.statements() <= STATEMENT_BUDGET, "Sentencias ejecutadas: " + four.statements());
+		assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tickets WHERE function_id = ?", Integer.class, FUNCTION_ID));
+		assertEquals(95, jdbcTemplate.queryForObject("SELECT available_capacity FROM functions WHERE id = ?", Integer.class, FUNCTION_ID));
+	}
+
+	private void buy(int quantity) {
+		TicketRequestDTO dto = new TicketRequestDTO();
+		dto.setFunctionId(FUNCTION_ID);
+		dto.setQuantity(quantity);
+		assertEquals(quantity, ticketService.buyTickets(dto).size());
+	}
+}